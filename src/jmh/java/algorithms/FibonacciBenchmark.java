@@ -0,0 +1,50 @@
+package algorithms;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the fast doubling Fibonacci numbers of {@link Fibonacci}: every long one, and single BigInteger
+ * ones up to n = 10^6 (a number of about 210k digits).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FibonacciBenchmark {
+    /**
+     * Index of the BigInteger benchmark, in its own state so that the long benchmark doesn't run once per value.
+     */
+    @State(Scope.Thread)
+    public static class Index {
+        @Param({"100", "1000", "10000", "100000", "1000000"})
+        int n;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Fibonacci.MAX_LONG_INDEX + 1)
+    public void fibonacciLong(Blackhole blackhole) {
+        for (int i = 0; i <= Fibonacci.MAX_LONG_INDEX; i++) {
+            blackhole.consume(Fibonacci.fibonacci(i));
+        }
+    }
+
+    @Benchmark
+    public BigInteger bigFibonacci(Index index) {
+        return Fibonacci.bigFibonacci(index.n);
+    }
+}
@@ -0,0 +1,68 @@
+package algorithms;
+
+import java.util.Random;
+
+/**
+ * Input distributions for the benchmarks, all generated from a fixed seed so that runs are comparable.
+ */
+public enum Input {
+    RANDOM {
+        @Override
+        void fill(int[] array, Random random) {
+            for (int i = 0; i < array.length; i++) {
+                array[i] = random.nextInt();
+            }
+        }
+    },
+    SORTED {
+        @Override
+        void fill(int[] array, Random random) {
+            for (int i = 0; i < array.length; i++) {
+                array[i] = i;
+            }
+        }
+    },
+    REVERSED {
+        @Override
+        void fill(int[] array, Random random) {
+            for (int i = 0; i < array.length; i++) {
+                array[i] = array.length - i;
+            }
+        }
+    },
+    SAWTOOTH {
+        @Override
+        void fill(int[] array, Random random) {
+            // ascending runs of ~sqrt(n) elements
+            int period = Math.max(2, (int) Math.sqrt(array.length));
+            for (int i = 0; i < array.length; i++) {
+                array[i] = i % period;
+            }
+        }
+    },
+    FEW_DISTINCT {
+        @Override
+        void fill(int[] array, Random random) {
+            for (int i = 0; i < array.length; i++) {
+                array[i] = random.nextInt(8);
+            }
+        }
+    },
+    ORGAN_PIPE {
+        @Override
+        void fill(int[] array, Random random) {
+            // ascending first half, descending second half
+            for (int i = 0; i < array.length; i++) {
+                array[i] = i < array.length / 2 ? i : array.length - i;
+            }
+        }
+    };
+
+    abstract void fill(int[] array, Random random);
+
+    int[] create(int size) {
+        int[] array = new int[size];
+        fill(array, new Random(42));
+        return array;
+    }
+}
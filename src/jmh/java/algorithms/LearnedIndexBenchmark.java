@@ -0,0 +1,97 @@
+package algorithms;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups with {@link LearnedIndex} against the searches of {@link Search} on the same sorted arrays, plus the time
+ * to build the index. UNIFORM keys are sorted random ints, SKEWED keys grow exponentially, which needs many more
+ * segments.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LearnedIndexBenchmark {
+    static final int LOOKUPS = 1024;
+
+    @Param({"100000", "10000000"})
+    int size;
+
+    @Param({"UNIFORM", "SKEWED"})
+    String distribution;
+
+    @Param({"16", "64", "256"})
+    int epsilon;
+
+    int[] values;
+    int[] keys;
+    LearnedIndex learnedIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new int[size];
+        keys = new int[LOOKUPS];
+
+        for (int i = 0; i < size; i++) {
+            values[i] = "UNIFORM".equals(distribution)
+                    ? random.nextInt()
+                    : (int) Math.min(Integer.MAX_VALUE, Math.exp(random.nextDouble() * Math.log(Integer.MAX_VALUE)));
+        }
+        Arrays.sort(values);
+        // half of them present, the others anywhere in the range of the values
+        for (int i = 0; i < LOOKUPS; i++) {
+            keys[i] = i % 2 == 0
+                    ? values[random.nextInt(size)]
+                    : values[0] + (int) (random.nextDouble() * ((double) values[size - 1] - values[0]));
+        }
+        learnedIndex = new LearnedIndex(values, epsilon);
+    }
+
+    @Benchmark
+    public LearnedIndex build() {
+        return new LearnedIndex(values, epsilon);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void learnedIndex(Blackhole blackhole) {
+        for (int key : keys) {
+            blackhole.consume(learnedIndex.indexOf(key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void binarySearch(Blackhole blackhole) {
+        for (int key : keys) {
+            blackhole.consume(Search.binarySearch(values, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void binarySearchBranchless(Blackhole blackhole) {
+        for (int key : keys) {
+            blackhole.consume(Search.binarySearchBranchless(values, key));
+        }
+    }
+}
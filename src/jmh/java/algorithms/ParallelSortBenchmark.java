@@ -0,0 +1,79 @@
+package algorithms;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the parallel sorts of {@link Sort} for a growing number of threads, to see how far each of them
+ * scales. Thread counts above the number of cores of the machine only measure the overhead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParallelSortBenchmark {
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    int threads;
+
+    @Param({"1000000", "10000000", "100000000"})
+    int size;
+
+    @Param({"RANDOM", "SAWTOOTH", "FEW_DISTINCT"})
+    Input input;
+
+    private ForkJoinPool pool;
+    private int[] source;
+    private int[] array;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(threads);
+        source = input.create(size);
+        array = new int[size];
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private int[] copy() {
+        System.arraycopy(source, 0, array, 0, size);
+        return array;
+    }
+
+    @Benchmark
+    public int[] parallelMergeSort() {
+        return Sort.parallelMergeSort(copy(), Sort.PARALLEL_CUTOFF, pool);
+    }
+
+    @Benchmark
+    public int[] parallelQuickSort() {
+        return Sort.parallelQuickSort(copy(), Sort.PARALLEL_CUTOFF, pool);
+    }
+
+    @Benchmark
+    public int[] parallelSampleSort() {
+        return Sort.parallelSampleSort(copy(), pool);
+    }
+
+    @Benchmark
+    public int[] parallelRadixSort() {
+        return Sort.parallelRadixSort(copy(), pool);
+    }
+}
@@ -0,0 +1,67 @@
+package algorithms;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The O(n^2) sorts of {@link Sort}, next to quicksort so the small-array claims in their docs can be checked.
+ * Sizes stop at 10K, beyond that a single invocation takes too long to be useful.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class QuadraticSortBenchmark {
+    @Param({"8", "16", "32", "64", "1000", "10000"})
+    int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "SAWTOOTH", "FEW_DISTINCT", "ORGAN_PIPE"})
+    Input input;
+
+    private int[] source;
+    private int[] array;
+
+    @Setup
+    public void setUp() {
+        source = input.create(size);
+        array = new int[size];
+    }
+
+    private int[] copy() {
+        System.arraycopy(source, 0, array, 0, size);
+        return array;
+    }
+
+    @Benchmark
+    public int[] bubbleSort() {
+        return Sort.bubbleSort(copy());
+    }
+
+    @Benchmark
+    public int[] insertionSort() {
+        return Sort.insertionSort(copy());
+    }
+
+    @Benchmark
+    public int[] selectionSort() {
+        return Sort.selectionSort(copy());
+    }
+
+    @Benchmark
+    public int[] quickSort() {
+        return Sort.quickSort(copy());
+    }
+}
@@ -0,0 +1,133 @@
+package algorithms;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups with the searches of {@link Search} in sorted arrays from 8 up to 10M elements. Every invocation looks up
+ * the same random batch of keys, half of which are misses, so the result is the time per lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SearchBenchmark {
+    static final int LOOKUPS = 1024;
+
+    @Param({"8", "64", "1000", "100000", "10000000"})
+    int size;
+
+    int[] values;
+    int[] keys;
+    int[] sortedKeys;
+    int[] result;
+    EytzingerIndex eytzingerIndex;
+    FilteredSearch filteredSearch;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new int[size];
+        keys = new int[LOOKUPS];
+
+        // even values only, odd keys are misses
+        for (int i = 0; i < size; i++) {
+            values[i] = 2 * i;
+        }
+        for (int i = 0; i < LOOKUPS; i++) {
+            keys[i] = random.nextInt(2 * size);
+        }
+        sortedKeys = keys.clone();
+        Arrays.sort(sortedKeys);
+        result = new int[LOOKUPS];
+        eytzingerIndex = new EytzingerIndex(values);
+        filteredSearch = new FilteredSearch(values);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void binarySearch(Blackhole blackhole) {
+        for (int key : keys) {
+            blackhole.consume(Search.binarySearch(values, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void binarySearchRecursive(Blackhole blackhole) {
+        for (int key : keys) {
+            blackhole.consume(Search.binarySearchRecursive(values, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void binarySearchBranchless(Blackhole blackhole) {
+        for (int key : keys) {
+            blackhole.consume(Search.binarySearchBranchless(values, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void interpolationSearch(Blackhole blackhole) {
+        for (int key : keys) {
+            blackhole.consume(Search.interpolationSearch(values, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void exponentialSearch(Blackhole blackhole) {
+        for (int key : keys) {
+            blackhole.consume(Search.exponentialSearch(values, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void eytzingerIndex(Blackhole blackhole) {
+        for (int key : keys) {
+            blackhole.consume(eytzingerIndex.indexOf(key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int[] batchBinarySearch() {
+        Search.binarySearch(values, keys, result);
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int[] batchBinarySearchSortedKeys() {
+        Search.binarySearch(values, sortedKeys, result);
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void filteredSearch(Blackhole blackhole) {
+        for (int key : keys) {
+            blackhole.consume(filteredSearch.indexOf(key));
+        }
+    }
+}
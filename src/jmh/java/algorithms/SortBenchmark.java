@@ -0,0 +1,97 @@
+package algorithms;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The O(n*log(n)) and linear sorts of {@link Sort} on every {@link Input} from 8 up to 10M elements.
+ * <p>
+ * Each invocation sorts a fresh copy of the input, the copy is part of the measured time for all the sorts alike.
+ * Run with {@code gradle jmh -PjmhInclude=SortBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SortBenchmark {
+    @Param({"8", "64", "1000", "100000", "10000000"})
+    int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "SAWTOOTH", "FEW_DISTINCT", "ORGAN_PIPE"})
+    Input input;
+
+    private int[] source;
+    private int[] array;
+    private int[] buffer;
+
+    @Setup
+    public void setUp() {
+        source = input.create(size);
+        array = new int[size];
+        buffer = new int[size];
+    }
+
+    private int[] copy() {
+        System.arraycopy(source, 0, array, 0, size);
+        return array;
+    }
+
+    @Benchmark
+    public int[] mergeSort() {
+        return Sort.mergeSort(copy());
+    }
+
+    @Benchmark
+    public int[] mergeSortWithBuffer() {
+        return Sort.mergeSort(copy(), buffer);
+    }
+
+    @Benchmark
+    public int[] quickSort() {
+        return Sort.quickSort(copy());
+    }
+
+    @Benchmark
+    public int[] heapSort() {
+        return Sort.heapSort(copy());
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        return Sort.radixSort(copy(), buffer);
+    }
+
+    @Benchmark
+    public int[] parallelMergeSort() {
+        return Sort.parallelMergeSort(copy());
+    }
+
+    @Benchmark
+    public int[] parallelQuickSort() {
+        return Sort.parallelQuickSort(copy());
+    }
+
+    /**
+     * Baseline to compare against.
+     */
+    @Benchmark
+    public int[] arraysSort() {
+        int[] array = copy();
+        Arrays.sort(array);
+        return array;
+    }
+}
@@ -0,0 +1,57 @@
+package algorithms;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SortingNetwork} against insertion sort on the small arrays quicksort and mergesort hand to
+ * {@link Sort#smallSort(int[], int, int)}, to check that the branch-free network is the faster base case.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SortingNetworkBenchmark {
+    @Param({"8", "16", "24", "32", "48", "64"})
+    int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "FEW_DISTINCT"})
+    Input input;
+
+    private int[] source;
+    private int[] array;
+
+    @Setup
+    public void setUp() {
+        source = input.create(size);
+        array = new int[size];
+    }
+
+    private int[] copy() {
+        System.arraycopy(source, 0, array, 0, size);
+        return array;
+    }
+
+    @Benchmark
+    public int[] insertionSort() {
+        return Sort.insertionSort(copy());
+    }
+
+    @Benchmark
+    public int[] sortingNetwork() {
+        return SortingNetwork.sort(copy());
+    }
+}
@@ -0,0 +1,269 @@
+package algorithms;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Single entry point for sorting that picks one of the algorithms of {@link Sort} for the caller.
+ * <p>
+ * The input is probed once with a small, fixed-size sample: the length, the number of descents (which gives the
+ * number of runs), the fraction of inverted pairs and the fraction of distinct values. Then:
+ * <ul>
+ * <li>tiny arrays go to insertion sort if they are nearly sorted, to a {@link SortingNetwork} otherwise,</li>
+ * <li>arrays made of long runs (sorted, reversed, sawtooth) go to the natural mergesort, which is O(n) for them,</li>
+ * <li>arrays with few distinct values go to quicksort, which moves values equal to its pivots out of the way,</li>
+ * <li>big random arrays go to radix sort, in parallel if there is more than one core,</li>
+ * <li>everything else goes to quicksort.</li>
+ * </ul>
+ * The probe costs O(s^2) for a sample of s = {@value #SAMPLE_SIZE} values, independent of the length.
+ */
+class AdaptiveSort {
+    enum Algorithm {
+        INSERTION, NETWORK, MERGE, QUICK, RADIX, PARALLEL_RADIX
+    }
+
+    static final int SAMPLE_SIZE = 128;
+
+    /**
+     * Arrays with more descents per element than this are not worth sorting by merging runs.
+     */
+    private static final double MAX_RUN_DESCENT_RATE = 1.0 / 256;
+
+    /**
+     * Arrays at least this long are radix sorted, below that radix sort's passes and buffer don't pay off.
+     */
+    private static final int RADIX_THRESHOLD = 1 << 16;
+
+    /**
+     * Arrays at least this long are radix sorted in parallel, if the common pool has more than one thread.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 22;
+
+    private AdaptiveSort() {}
+
+    static int[] sort(int[] array) {
+        return sort(array, null);
+    }
+
+    /**
+     * Sorts the array and records what was done in the statistics. With statistics, the sort reports its work to a
+     * {@link SortCounter.Counting}, so the sort time includes the cost of the counting.
+     *
+     * @param statistics filled with the profile, the chosen algorithm and the cost of the sort, or null.
+     */
+    static int[] sort(int[] array, Statistics statistics) {
+        long start = statistics != null ? System.nanoTime() : 0;
+
+        Profile profile = Profile.of(array);
+        Algorithm algorithm = choose(profile);
+
+        if (statistics == null) {
+            return run(array, algorithm, SortCounter.NONE);
+        }
+
+        SortCounter.Counting counter = new SortCounter.Counting();
+        long sortStart = System.nanoTime();
+        run(array, algorithm, counter);
+        statistics.record(profile, algorithm, sortStart - start, System.nanoTime() - sortStart, counter);
+        return array;
+    }
+
+    private static int[] run(int[] array, Algorithm algorithm, SortCounter counter) {
+        switch (algorithm) {
+            case INSERTION:
+                Sort.insertionSort(array, 0, array.length, counter);
+                return array;
+            case NETWORK:
+                SortingNetwork.sort(array, 0, array.length, counter);
+                return array;
+            case MERGE:
+                return Sort.mergeSort(array, counter);
+            case RADIX:
+                return Sort.radixSort(array, counter);
+            case PARALLEL_RADIX:
+                return Sort.parallelRadixSort(array, ForkJoinPool.commonPool(), counter);
+            default:
+                return Sort.quickSort(array, counter);
+        }
+    }
+
+    static Algorithm choose(Profile profile) {
+        int length = profile.length;
+
+        if (length <= SortingNetwork.MAX_LENGTH) {
+            return profile.inversionRate < 0.1 ? Algorithm.INSERTION : Algorithm.NETWORK;
+        }
+        if (profile.descentRate <= MAX_RUN_DESCENT_RATE || profile.inversionRate > 0.99) {
+            return Algorithm.MERGE;
+        }
+        if (profile.distinctRate < 0.1) {
+            return Algorithm.QUICK;
+        }
+        if (length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return Algorithm.PARALLEL_RADIX;
+        }
+        if (length >= RADIX_THRESHOLD) {
+            return Algorithm.RADIX;
+        }
+        return Algorithm.QUICK;
+    }
+
+    /**
+     * What the probe found out about an array. Rates are estimated from the sample if the array is longer than it.
+     */
+    static class Profile {
+        final int length;
+        /**
+         * Descents (a[i] > a[i + 1]) per neighbouring pair: 0 when sorted, about 0.5 when random, 1 when reversed.
+         */
+        final double descentRate;
+        /**
+         * Inverted pairs per pair of sampled values: 0 when sorted, about 0.5 when random, 1 when reversed.
+         */
+        final double inversionRate;
+        /**
+         * Distinct values per sampled value.
+         */
+        final double distinctRate;
+        /**
+         * Comparisons made by the probe itself.
+         */
+        final long comparisons;
+
+        private Profile(int length, double descentRate, double inversionRate, double distinctRate,
+                        long comparisons) {
+            this.length = length;
+            this.descentRate = descentRate;
+            this.inversionRate = inversionRate;
+            this.distinctRate = distinctRate;
+            this.comparisons = comparisons;
+        }
+
+        static Profile of(int[] array) {
+            int length = array.length;
+            if (length <= 1) {
+                return new Profile(length, 0, 0, 1, 0);
+            }
+
+            // evenly spaced positions, each with its right neighbour for the descents
+            int sampleSize = Math.min(SAMPLE_SIZE, length - 1);
+            int[] sample = new int[sampleSize];
+            long step = ((long) (length - 1) << 16) / sampleSize;
+            int descents = 0;
+
+            for (int i = 0; i < sampleSize; i++) {
+                int position = (int) ((i * step) >>> 16);
+                sample[i] = array[position];
+
+                if (array[position] > array[position + 1]) {
+                    descents++;
+                }
+            }
+
+            long inversions = 0;
+            for (int i = 0; i < sampleSize; i++) {
+                for (int j = i + 1; j < sampleSize; j++) {
+                    if (sample[i] > sample[j]) {
+                        inversions++;
+                    }
+                }
+            }
+            long pairs = (long) sampleSize * (sampleSize - 1) / 2;
+
+            SortCounter.Counting sampleSort = new SortCounter.Counting();
+            Sort.quickSort(sample, sampleSort);
+            int distinct = 1;
+            for (int i = 1; i < sampleSize; i++) {
+                if (sample[i] != sample[i - 1]) {
+                    distinct++;
+                }
+            }
+
+            return new Profile(length, (double) descents / sampleSize,
+                    pairs > 0 ? (double) inversions / pairs : 0, (double) distinct / sampleSize,
+                    sampleSize + pairs + sampleSort.getComparisons() + (sampleSize - 1));
+        }
+    }
+
+    /**
+     * Record of a sort: the profile, the chosen algorithm, the time spent and the work done. The work is counted
+     * by the sort itself through a {@link SortCounter}, comparisons include the ones of the probe.
+     * <p>
+     * Not thread-safe, use one instance per sort or per thread.
+     */
+    static class Statistics {
+        private Profile profile;
+        private Algorithm algorithm;
+        private long probeNanos;
+        private long sortNanos;
+        private long comparisons;
+        private long swaps;
+        private long bytesMoved;
+        private long heapSortFallbacks;
+        private long equalKeysPartitions;
+
+        private void record(Profile profile, Algorithm algorithm, long probeNanos, long sortNanos,
+                            SortCounter.Counting counter) {
+            this.profile = profile;
+            this.algorithm = algorithm;
+            this.probeNanos = probeNanos;
+            this.sortNanos = sortNanos;
+            this.comparisons = profile.comparisons + counter.getComparisons();
+            this.swaps = counter.getSwaps();
+            this.bytesMoved = counter.getWrites() * Integer.BYTES;
+            this.heapSortFallbacks = counter.getHeapSortFallbacks();
+            this.equalKeysPartitions = counter.getEqualKeysPartitions();
+        }
+
+        Profile getProfile() {
+            return profile;
+        }
+
+        Algorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        long getProbeNanos() {
+            return probeNanos;
+        }
+
+        long getSortNanos() {
+            return sortNanos;
+        }
+
+        long getComparisons() {
+            return comparisons;
+        }
+
+        long getSwaps() {
+            return swaps;
+        }
+
+        long getBytesMoved() {
+            return bytesMoved;
+        }
+
+        /**
+         * Quicksort ranges that were finished with heapsort, non-zero means the input was adversarial for quicksort.
+         */
+        long getHeapSortFallbacks() {
+            return heapSortFallbacks;
+        }
+
+        /**
+         * Quicksort partitions that had lots of values equal to the pivots.
+         */
+        long getEqualKeysPartitions() {
+            return equalKeysPartitions;
+        }
+
+        @Override
+        public String toString() {
+            return algorithm + " n=" + profile.length
+                    + String.format(" descents=%.3f inversions=%.3f distinct=%.3f", profile.descentRate,
+                    profile.inversionRate, profile.distinctRate)
+                    + " probe=" + probeNanos + "ns sort=" + sortNanos + "ns comparisons=" + comparisons
+                    + " swaps=" + swaps + " bytesMoved=" + bytesMoved + " heapSortFallbacks=" + heapSortFallbacks
+                    + " equalKeysPartitions=" + equalKeysPartitions;
+        }
+    }
+}
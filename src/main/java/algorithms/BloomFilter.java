@@ -0,0 +1,178 @@
+package algorithms;
+
+/**
+ * Blocked Bloom filter over the values of a sorted array: {@link #mightContain(long)} is false for a value that is
+ * definitely not in the array, and true for every value that is (and a few that aren't, the false positives).
+ * <p>
+ * A classic Bloom filter sets k bits all over the bit array, so a lookup is k cache misses. Here the first part of
+ * the hash picks a block of 512 bits (one cache line) and the k bits are all set in that block, so a lookup is a
+ * single cache miss, for a slightly higher false positive rate at the same number of bits per key.
+ * <p>
+ * Build: O(n), space: bitsPerKey * n bits, rounded up to a multiple of 512.
+ * Lookup: O(k), one cache line.
+ */
+class BloomFilter {
+    static final int DEFAULT_BITS_PER_KEY = 10;
+    static final int MAX_BITS_PER_KEY = 64;
+
+    private static final int BLOCK_SHIFT = 9;
+    private static final int WORDS_PER_BLOCK = (1 << BLOCK_SHIFT) / Long.SIZE;
+
+    private final long[] words;
+    private final int blocks;
+    private final int hashCount;
+    private final int bitsPerKey;
+
+    BloomFilter(int[] values) {
+        this(values, DEFAULT_BITS_PER_KEY);
+    }
+
+    /**
+     * @param values     sorted values, duplicates only take space once.
+     * @param bitsPerKey size of the filter per distinct value, the false positive rate is about 0.6185^bitsPerKey.
+     */
+    BloomFilter(int[] values, int bitsPerKey) {
+        this(distinct(values), bitsPerKey);
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0 || values[i] != values[i - 1]) {
+                add(values[i]);
+            }
+        }
+    }
+
+    BloomFilter(long[] values) {
+        this(values, DEFAULT_BITS_PER_KEY);
+    }
+
+    BloomFilter(long[] values, int bitsPerKey) {
+        this(distinct(values), bitsPerKey);
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0 || values[i] != values[i - 1]) {
+                add(values[i]);
+            }
+        }
+    }
+
+    private BloomFilter(int distinctValues, int bitsPerKey) {
+        if (bitsPerKey < 1 || bitsPerKey > MAX_BITS_PER_KEY) {
+            throw new IllegalArgumentException("Bits per key out of range: " + bitsPerKey);
+        }
+        this.bitsPerKey = bitsPerKey;
+        // k = ln(2) * m / n minimizes the false positive rate
+        this.hashCount = Math.max(1, (int) Math.round(bitsPerKey * Math.log(2)));
+
+        long bits = Math.max(1L, (long) distinctValues * bitsPerKey);
+        long blockCount = (bits + (1 << BLOCK_SHIFT) - 1) >>> BLOCK_SHIFT;
+        if (blockCount * WORDS_PER_BLOCK > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Filter too big: " + bits + " bits");
+        }
+        this.blocks = (int) blockCount;
+        this.words = new long[blocks * WORDS_PER_BLOCK];
+    }
+
+    /**
+     * Filter for the values with a false positive rate close to the given one.
+     */
+    static BloomFilter withFalsePositiveRate(int[] values, double falsePositiveRate) {
+        return new BloomFilter(values, bitsPerKey(falsePositiveRate));
+    }
+
+    static BloomFilter withFalsePositiveRate(long[] values, double falsePositiveRate) {
+        return new BloomFilter(values, bitsPerKey(falsePositiveRate));
+    }
+
+    /**
+     * m / n = -ln(p) / ln(2)^2 for an optimal Bloom filter, plus one bit for the blocking.
+     */
+    static int bitsPerKey(double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be in ]0, 1[: " + falsePositiveRate);
+        }
+        double bits = -Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        return (int) Math.min(MAX_BITS_PER_KEY, Math.ceil(bits) + 1);
+    }
+
+    private static int distinct(int[] values) {
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0 || values[i] != values[i - 1]) count++;
+        }
+        return count;
+    }
+
+    private static int distinct(long[] values) {
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0 || values[i] != values[i - 1]) count++;
+        }
+        return count;
+    }
+
+    private void add(long value) {
+        long hash = hash(value);
+        int block = block(hash);
+        int h1 = (int) hash;
+        int h2 = secondHash(hash);
+
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (h1 + i * h2) & ((1 << BLOCK_SHIFT) - 1);
+            words[block + (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * False if the value is definitely not one of the values of the filter.
+     */
+    boolean mightContain(long value) {
+        long hash = hash(value);
+        int block = block(hash);
+        int h1 = (int) hash;
+        int h2 = secondHash(hash);
+
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (h1 + i * h2) & ((1 << BLOCK_SHIFT) - 1);
+            if ((words[block + (bit >>> 6)] & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Step between the bits of a value inside its block. The top bits of the hash already picked the block, so they
+     * are mixed with the bottom ones rather than used as is, and it's odd so that the k bits are all different.
+     */
+    private static int secondHash(long hash) {
+        return (int) ((hash * 0x9e3779b97f4a7c15L) >>> 32) | 1;
+    }
+
+    /**
+     * First word of the block for the hash, from the top bits (the bits inside the block come from the rest).
+     */
+    private int block(long hash) {
+        // (top 32 bits * blocks) >> 32 maps the hash to [0, blocks) without a division
+        return (int) (((hash >>> 32) * blocks) >>> 32) * WORDS_PER_BLOCK;
+    }
+
+    /**
+     * 64 bit finalizer of MurmurHash3, every bit of the value affects every bit of the hash.
+     */
+    private static long hash(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    int bitsPerKey() {
+        return bitsPerKey;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Size of the filter in bits.
+     */
+    long bitSize() {
+        return (long) words.length * Long.SIZE;
+    }
+}
@@ -0,0 +1,189 @@
+package algorithms;
+
+import dataStructures.tree.MinHeap;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * External sort for binary files of ints that are too big to be sorted in memory.
+ * <p>
+ * The input is memory-mapped and sorted in chunks with {@link Sort#radixSort(int[], int[], int, int)}, each sorted
+ * chunk (run) is written to a memory-mapped temporary file. The runs are then merged with a k-way merge that keeps
+ * the run with the smallest current value at the root of a {@link MinHeap}. All the reads and writes are sequential
+ * and go through mapped buffers, so the data isn't copied through intermediate stream buffers, and the heap usage is
+ * bounded by two chunks no matter how big the input is.
+ * <p>
+ * Time: O(n*log(k)) for the merge of k runs, plus sorting the chunks.
+ * Heap space: O(c + k), where c = chunk size.
+ */
+class ExternalSort {
+    /**
+     * Number of ints sorted in memory at once (64MB of data plus the same for the radix sort buffer).
+     */
+    static final int DEFAULT_CHUNK_SIZE = 1 << 24;
+
+    /**
+     * Biggest chunk that can still be mapped as one buffer.
+     */
+    static final int MAX_CHUNK_SIZE = Integer.MAX_VALUE / Integer.BYTES;
+
+    /**
+     * Number of ints of the output that are mapped at once while merging.
+     */
+    private static final int OUTPUT_WINDOW = 1 << 20;
+
+    private ExternalSort() {}
+
+    /**
+     * Sorts a file of big-endian ints, using the default chunk size.
+     */
+    static void sort(Path input, Path output) throws IOException {
+        sort(input, output, DEFAULT_CHUNK_SIZE, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Sorts a file of ints into the output file. Temporary run files are created in the directory of the output
+     * file and deleted afterwards.
+     *
+     * @param chunkSize number of ints sorted in memory at once.
+     * @param order     byte order of the ints in the input, the output is written with the same order.
+     */
+    static void sort(Path input, Path output, int chunkSize, ByteOrder order) throws IOException {
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size out of range: " + chunkSize);
+        }
+
+        try (FileChannel inputChannel = FileChannel.open(input, READ)) {
+            long bytes = inputChannel.size();
+            if (bytes % Integer.BYTES != 0) {
+                throw new IllegalArgumentException("File size is not a multiple of " + Integer.BYTES + ": " + bytes);
+            }
+            long count = bytes / Integer.BYTES;
+
+            Path directory = output.toAbsolutePath().getParent();
+            List<Path> runs = new ArrayList<>();
+
+            try {
+                createRuns(inputChannel, count, chunkSize, order, directory, runs);
+                mergeRuns(runs, output, count, order);
+            } finally {
+                for (Path run : runs) {
+                    Files.deleteIfExists(run);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts the input chunk by chunk and writes each chunk to its own run file.
+     */
+    private static void createRuns(FileChannel input, long count, int chunkSize, ByteOrder order, Path directory,
+                                   List<Path> runs) throws IOException {
+        int bufferSize = (int) Math.min(chunkSize, count);
+        int[] chunk = new int[bufferSize];
+        int[] buffer = new int[bufferSize];
+
+        for (long start = 0; start < count; start += chunkSize) {
+            int length = (int) Math.min(chunkSize, count - start);
+
+            map(input, FileChannel.MapMode.READ_ONLY, start, length, order).get(chunk, 0, length);
+            Sort.radixSort(chunk, buffer, 0, length);
+
+            Path run = Files.createTempFile(directory, "run", ".bin");
+            runs.add(run);
+
+            try (FileChannel runChannel = FileChannel.open(run, READ, WRITE)) {
+                map(runChannel, FileChannel.MapMode.READ_WRITE, 0, length, order).put(chunk, 0, length);
+            }
+        }
+    }
+
+    /**
+     * K-way merge of the sorted runs into the output file.
+     */
+    private static void mergeRuns(List<Path> runPaths, Path output, long count, ByteOrder order) throws IOException {
+        IntBuffer[] runs = new IntBuffer[runPaths.size()];
+
+        for (int i = 0; i < runs.length; i++) {
+            try (FileChannel runChannel = FileChannel.open(runPaths.get(i), READ)) {
+                // the mapping stays valid after the channel is closed
+                runs[i] = map(runChannel, FileChannel.MapMode.READ_ONLY, 0, runChannel.size() / Integer.BYTES, order);
+            }
+        }
+
+        RunHeap heap = new RunHeap(runs);
+
+        try (FileChannel outputChannel = FileChannel.open(output, CREATE, TRUNCATE_EXISTING, READ, WRITE)) {
+            for (long start = 0; start < count; start += OUTPUT_WINDOW) {
+                int length = (int) Math.min(OUTPUT_WINDOW, count - start);
+                IntBuffer window = map(outputChannel, FileChannel.MapMode.READ_WRITE, start, length, order);
+
+                for (int i = 0; i < length; i++) {
+                    window.put(heap.next());
+                }
+            }
+        }
+    }
+
+    private static IntBuffer map(FileChannel channel, FileChannel.MapMode mode, long start, long length,
+                                 ByteOrder order) throws IOException {
+        MappedByteBuffer buffer = channel.map(mode, start * Integer.BYTES, length * Integer.BYTES);
+        return buffer.order(order).asIntBuffer();
+    }
+
+    /**
+     * Min heap of run indexes, ordered by the current (smallest unread) value of each run.
+     */
+    private static class RunHeap extends MinHeap {
+        private final IntBuffer[] runs;
+        private final int[] heads;
+
+        private RunHeap(IntBuffer[] runs) {
+            super(runs.length);
+            this.runs = runs;
+            this.heads = new int[runs.length];
+
+            for (int i = 0; i < runs.length; i++) {
+                if (runs[i].hasRemaining()) {
+                    heads[i] = runs[i].get();
+                    insertPriority(i);
+                }
+            }
+        }
+
+        @Override
+        protected boolean isHigherPriority(int run, int otherRun) {
+            return heads[run] < heads[otherRun];
+        }
+
+        /**
+         * Returns the smallest unread value of all the runs and advances that run.
+         */
+        private int next() {
+            int run = getMin();
+            int value = heads[run];
+
+            if (runs[run].hasRemaining()) {
+                // same run stays at the root with its next value, sift it down to its new place
+                heads[run] = runs[run].get();
+                siftDown(1);
+            } else {
+                extractMin();
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package algorithms;
+
+/**
+ * Search index over a sorted array that stores the values in Eytzinger (BFS) order: the middle value first, then
+ * the middles of both halves, and so on, like an implicit binary search tree (children of k at 2k and 2k+1).
+ * <p>
+ * A binary search on the sorted array jumps all over it, so on big arrays nearly every step is a cache miss.
+ * In Eytzinger order the first levels of the search are packed together at the front and stay in cache, and the
+ * 16 descendants four levels below a node share one cache line, so the hardware prefetcher can keep up with the
+ * descent. The search loop is branchless, like {@link Search#lowerBoundBranchless(int[], int)}. Java has no
+ * explicit prefetch instruction, so prefetching is left to the hardware.
+ * <p>
+ * Build: O(n), space: 2n ints (the values and their index in the sorted array).
+ * Search: O(log(n)).
+ */
+class EytzingerIndex {
+    // 1-based, index 0 is unused
+    private final int[] tree;
+    private final int[] sortedIndexes;
+    private final int size;
+
+    /**
+     * @param values sorted values.
+     */
+    EytzingerIndex(int[] values) {
+        size = values.length;
+        tree = new int[size + 1];
+        sortedIndexes = new int[size + 1];
+        build(values, 0, 1);
+    }
+
+    /**
+     * In-order traversal of the implicit tree, which visits the nodes in sorted order.
+     *
+     * @return next index in the sorted values.
+     */
+    private int build(int[] values, int index, int node) {
+        if (node <= size) {
+            index = build(values, index, 2 * node);
+            tree[node] = values[index];
+            sortedIndexes[node] = index++;
+            index = build(values, index, 2 * node + 1);
+        }
+        return index;
+    }
+
+    /**
+     * Index (in the sorted array) of the first value greater or equal to the search value, n if none.
+     */
+    int lowerBound(int searchValue) {
+        int node = 1;
+
+        // go right if the node is smaller, left otherwise
+        while (node <= size) {
+            node = 2 * node + (tree[node] < searchValue ? 1 : 0);
+        }
+        // undo the right turns after the last left turn, which was at the lower bound
+        node >>>= Integer.numberOfTrailingZeros(~node) + 1;
+
+        return node == 0 ? size : sortedIndexes[node];
+    }
+
+    /**
+     * Index (in the sorted array) of the search value, -1 if it isn't there.
+     */
+    int indexOf(int searchValue) {
+        int node = 1;
+
+        while (node <= size) {
+            node = 2 * node + (tree[node] < searchValue ? 1 : 0);
+        }
+        node >>>= Integer.numberOfTrailingZeros(~node) + 1;
+
+        return node != 0 && tree[node] == searchValue ? sortedIndexes[node] : -1;
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -1,8 +1,18 @@
 package algorithms;
 
+import java.math.BigInteger;
+
 class Fibonacci {
+    /**
+     * Biggest n for which F(n) fits in a long.
+     */
+    static final int MAX_LONG_INDEX = 92;
+
     private Fibonacci() {}
 
+    /**
+     * @throws ArithmeticException if the sequence doesn't fit in an int anymore (n > 47, F(47) overflows).
+     */
     static int[] createFibonacciSequence(int n) {
         if (n == 1 || n == 2) {
             return new int[]{1};
@@ -13,7 +23,7 @@ class Fibonacci {
         seq[1] = 1;
 
         for (int i = 2; i < n; i++) {
-            seq[i] = seq[i - 1] + seq[i - 2];
+            seq[i] = Math.addExact(seq[i - 1], seq[i - 2]);
         }
         return seq;
     }
@@ -33,4 +43,81 @@ class Fibonacci {
         }
         return fibonacciNumber(n - 2) + fibonacciNumber(n - 1);
     }
+
+    /**
+     * F(n) with fast doubling, from the bits of n, most significant first:
+     * F(2k) = F(k) * (2F(k+1) - F(k)) and F(2k+1) = F(k)^2 + F(k+1)^2, then one step further for a 1 bit.
+     * <p>
+     * O(log(n)) multiplications, and it never computes anything bigger than F(n), so the exact arithmetic only
+     * throws when F(n) itself doesn't fit.
+     *
+     * @throws ArithmeticException if F(n) doesn't fit in a long (n > {@value #MAX_LONG_INDEX}).
+     */
+    static long fibonacci(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Negative index: " + n);
+        }
+        if (n > MAX_LONG_INDEX) {
+            throw new ArithmeticException("F(" + n + ") overflows a long");
+        }
+
+        // F(k) and F(k + 1), k being the bits of n read so far
+        long a = 0;
+        long b = 1;
+        for (int bit = Integer.highestOneBit(n); bit != 0; bit >>>= 1) {
+            // F(2k)
+            long c = Math.multiplyExact(a, Math.subtractExact(Math.multiplyExact(2, b), a));
+            if (bit == 1 && (n & 1) == 0) {
+                // last step, F(n + 1) isn't needed and might not fit
+                return c;
+            }
+            // F(2k + 1)
+            long d = Math.addExact(Math.multiplyExact(a, a), Math.multiplyExact(b, b));
+
+            if ((n & bit) == 0) {
+                a = c;
+                b = d;
+            } else if (bit == 1) {
+                return d;
+            } else {
+                a = d;
+                b = Math.addExact(c, d);
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Same fast doubling as {@link #fibonacci(int)} on BigIntegers, for any n: O(log(n)) multiplications of numbers
+     * of up to 0.7 * n bits, which BigInteger does with Karatsuba or Toom-Cook once they're big enough.
+     */
+    static BigInteger bigFibonacci(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Negative index: " + n);
+        }
+        if (n <= MAX_LONG_INDEX) {
+            return BigInteger.valueOf(fibonacci(n));
+        }
+
+        BigInteger a = BigInteger.ZERO;
+        BigInteger b = BigInteger.ONE;
+        for (int bit = Integer.highestOneBit(n); bit != 0; bit >>>= 1) {
+            BigInteger c = a.multiply(b.shiftLeft(1).subtract(a));
+            if (bit == 1 && (n & 1) == 0) {
+                return c;
+            }
+            BigInteger d = a.multiply(a).add(b.multiply(b));
+
+            if ((n & bit) == 0) {
+                a = c;
+                b = d;
+            } else if (bit == 1) {
+                return d;
+            } else {
+                a = d;
+                b = c.add(d);
+            }
+        }
+        return a;
+    }
 }
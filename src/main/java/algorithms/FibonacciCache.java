@@ -0,0 +1,152 @@
+package algorithms;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Fibonacci numbers computed once and shared between threads, extended on demand.
+ * <p>
+ * The numbers are kept in an array that is never modified once it's published: growing it copies the known
+ * numbers into a bigger array, computes the new ones and publishes it with a compare and set. Readers never lock
+ * and never wait, a thread that loses the race to publish just uses the winner's array (or grows it again), and a
+ * prefix of an array can be handed out as a read-only view without copying, since nothing will ever write to it.
+ * The array at least doubles each time, so growing to n is O(n) additions in total.
+ */
+class FibonacciCache {
+    /**
+     * Number of Fibonacci numbers that fit in a long: F(0) to F(92).
+     */
+    static final int MAX_LONG_COUNT = Fibonacci.MAX_LONG_INDEX + 1;
+
+    private final AtomicReference<BigInteger[]> numbers =
+            new AtomicReference<>(new BigInteger[]{BigInteger.ZERO, BigInteger.ONE});
+
+    /**
+     * F(n).
+     */
+    BigInteger get(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Negative index: " + n);
+        }
+        return grow(n + 1)[n];
+    }
+
+    /**
+     * F(0) to F(n - 1), as a read-only view of the cache: O(1) once they're computed.
+     */
+    List<BigInteger> prefix(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Negative length: " + n);
+        }
+        return Collections.unmodifiableList(Arrays.asList(grow(n)).subList(0, n));
+    }
+
+    /**
+     * Number of Fibonacci numbers computed so far.
+     */
+    int size() {
+        return numbers.get().length;
+    }
+
+    private BigInteger[] grow(int length) {
+        while (true) {
+            BigInteger[] current = numbers.get();
+            if (current.length >= length) {
+                return current;
+            }
+
+            BigInteger[] grown = Arrays.copyOf(current, Math.max(length, 2 * current.length));
+            for (int i = current.length; i < grown.length; i++) {
+                grown[i] = grown[i - 1].add(grown[i - 2]);
+            }
+            if (numbers.compareAndSet(current, grown)) {
+                return grown;
+            }
+        }
+    }
+
+    /**
+     * F(0) to F(n - 1) as longs, for n up to {@value #MAX_LONG_COUNT}. They're computed as the stream goes, and a
+     * parallel stream splits the range in halves that each start with {@link Fibonacci#fibonacci(int)}.
+     */
+    static LongStream longStream(int n) {
+        return StreamSupport.longStream(spliterator(n), false);
+    }
+
+    static Spliterator.OfLong spliterator(int n) {
+        if (n < 0 || n > MAX_LONG_COUNT) {
+            throw new IllegalArgumentException("Length out of range [0, " + MAX_LONG_COUNT + "]: " + n);
+        }
+        return new FibonacciSpliterator(0, n);
+    }
+
+    /**
+     * F(from) to F(to - 1). It keeps F(index) and F(index + 1); the latter overflows once the spliterator is at
+     * F(92), but it's never returned.
+     */
+    private static class FibonacciSpliterator implements Spliterator.OfLong {
+        private int index;
+        private final int to;
+        private long current;
+        private long next;
+
+        private FibonacciSpliterator(int from, int to) {
+            this.to = to;
+            start(from);
+        }
+
+        private void start(int from) {
+            index = from;
+            if (from < to) {
+                current = Fibonacci.fibonacci(from);
+                next = from + 1 < MAX_LONG_COUNT ? Fibonacci.fibonacci(from + 1) : 0;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (index >= to) return false;
+
+            action.accept(current);
+            long sum = current + next;
+            current = next;
+            next = sum;
+            index++;
+            return true;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            int middle = (index + to) >>> 1;
+            if (middle <= index) return null;
+
+            Spliterator.OfLong prefix = new FibonacciSpliterator(index, middle);
+            start(middle);
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SORTED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+        }
+
+        @Override
+        public Comparator<? super Long> getComparator() {
+            // natural order
+            return null;
+        }
+    }
+}
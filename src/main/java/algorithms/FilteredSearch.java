@@ -0,0 +1,92 @@
+package algorithms;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Exact-match search in a sorted array behind a {@link BloomFilter}, for lookups that are mostly misses: a key that
+ * the filter rules out costs one cache line instead of a binary search.
+ * <p>
+ * It counts the hits, the misses answered by the filter and the false positives (misses that got through the filter
+ * and needed the binary search) with {@link LongAdder}s, so it can be shared between threads without the counters
+ * becoming a point of contention.
+ */
+class FilteredSearch {
+    private final int[] values;
+    private final BloomFilter filter;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder filteredMisses = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    FilteredSearch(int[] values) {
+        this(values, new BloomFilter(values));
+    }
+
+    /**
+     * @param values sorted values, which it keeps a reference to (no copy).
+     * @param filter filter built from the same values.
+     */
+    FilteredSearch(int[] values, BloomFilter filter) {
+        this.values = values;
+        this.filter = filter;
+    }
+
+    /**
+     * Same as {@link Search#binarySearchBranchless(int[], int)}: first index of the value, -1 if it isn't there.
+     */
+    int indexOf(int searchValue) {
+        if (!filter.mightContain(searchValue)) {
+            filteredMisses.increment();
+            return -1;
+        }
+
+        int index = Search.binarySearchBranchless(values, searchValue);
+        if (index < 0) {
+            falsePositives.increment();
+        } else {
+            hits.increment();
+        }
+        return index;
+    }
+
+    boolean contains(int searchValue) {
+        return indexOf(searchValue) >= 0;
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Misses that the filter answered, without searching.
+     */
+    long filteredMisses() {
+        return filteredMisses.sum();
+    }
+
+    /**
+     * Misses that the filter let through.
+     */
+    long falsePositives() {
+        return falsePositives.sum();
+    }
+
+    /**
+     * Measured false positive rate: share of the misses that the filter let through, 0 if there wasn't any miss.
+     */
+    double falsePositiveRate() {
+        long falsePositives = falsePositives();
+        long misses = falsePositives + filteredMisses();
+        return misses == 0 ? 0 : (double) falsePositives / misses;
+    }
+
+    void resetCounters() {
+        hits.reset();
+        filteredMisses.reset();
+        falsePositives.reset();
+    }
+
+    BloomFilter filter() {
+        return filter;
+    }
+}
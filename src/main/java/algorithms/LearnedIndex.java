@@ -0,0 +1,204 @@
+package algorithms;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Learned index over a sorted int[] or long[] (PGM-index style): a piecewise linear model of the position of a key
+ * in the array, with a guaranteed maximum error epsilon on the positions of the keys of the array.
+ * <p>
+ * A lookup finds the segment of the key with a binary search over the first keys of the segments, which is small
+ * enough to stay in cache, predicts the position with the segment's line, and finishes with a binary search of the
+ * 2 * epsilon + 2 values around the prediction. On data that is close to linear, that's a handful of cache misses
+ * instead of log(n).
+ * <p>
+ * The segments are built in one pass with a shrinking cone: starting from the first key of a segment, every
+ * following key narrows the range of slopes that keep all the keys seen so far within epsilon of their position,
+ * and the segment ends when that range is empty. Duplicates only count once (at their first position), so the error
+ * bound is for the lower bound of distinct keys; long runs of duplicates are still found, with a galloping search
+ * out of the window.
+ * <p>
+ * Build: O(n), space: 20 bytes per segment, at most n / 2 segments and usually orders of magnitude fewer.
+ * Search: O(log(segments) + log(epsilon)).
+ */
+class LearnedIndex {
+    static final int DEFAULT_EPSILON = 64;
+
+    // exactly one of them is set
+    private final int[] intValues;
+    private final long[] longValues;
+    private final int size;
+    private final int epsilon;
+
+    private long[] segmentKeys;
+    private double[] slopes;
+    private int[] segmentPositions;
+    private int segmentCount;
+
+    LearnedIndex(int[] values) {
+        this(values, DEFAULT_EPSILON);
+    }
+
+    /**
+     * @param values  sorted values, which the index keeps a reference to (no copy).
+     * @param epsilon maximum distance between the predicted and the actual position of a value.
+     */
+    LearnedIndex(int[] values, int epsilon) {
+        this(values, null, values.length, i -> values[i], epsilon);
+    }
+
+    LearnedIndex(long[] values) {
+        this(values, DEFAULT_EPSILON);
+    }
+
+    LearnedIndex(long[] values, int epsilon) {
+        this(null, values, values.length, i -> values[i], epsilon);
+    }
+
+    private LearnedIndex(int[] intValues, long[] longValues, int size, IntToLongFunction key, int epsilon) {
+        if (epsilon < 1) {
+            throw new IllegalArgumentException("Epsilon must be at least 1, got " + epsilon);
+        }
+        this.intValues = intValues;
+        this.longValues = longValues;
+        this.size = size;
+        this.epsilon = epsilon;
+
+        segmentKeys = new long[16];
+        slopes = new double[16];
+        segmentPositions = new int[16];
+        build(key);
+
+        segmentKeys = Arrays.copyOf(segmentKeys, segmentCount);
+        slopes = Arrays.copyOf(slopes, segmentCount);
+        segmentPositions = Arrays.copyOf(segmentPositions, segmentCount);
+    }
+
+    private void build(IntToLongFunction key) {
+        if (size == 0) return;
+
+        long firstKey = key.applyAsLong(0);
+        int firstPosition = 0;
+        // slopes that keep every key of the segment within epsilon, a decreasing model would break the bounds
+        double minSlope = 0;
+        double maxSlope = Double.POSITIVE_INFINITY;
+
+        for (int i = 1; i < size; i++) {
+            long current = key.applyAsLong(i);
+            if (current == key.applyAsLong(i - 1)) continue;
+
+            double dx = (double) current - firstKey;
+            double dy = i - firstPosition;
+            double low = Math.max(minSlope, (dy - epsilon) / dx);
+            double high = Math.min(maxSlope, (dy + epsilon) / dx);
+
+            if (low <= high) {
+                minSlope = low;
+                maxSlope = high;
+            } else {
+                addSegment(firstKey, firstPosition, minSlope, maxSlope);
+                firstKey = current;
+                firstPosition = i;
+                minSlope = 0;
+                maxSlope = Double.POSITIVE_INFINITY;
+            }
+        }
+        addSegment(firstKey, firstPosition, minSlope, maxSlope);
+    }
+
+    private void addSegment(long key, int position, double minSlope, double maxSlope) {
+        if (segmentCount == segmentKeys.length) {
+            int capacity = 2 * segmentCount;
+            segmentKeys = Arrays.copyOf(segmentKeys, capacity);
+            slopes = Arrays.copyOf(slopes, capacity);
+            segmentPositions = Arrays.copyOf(segmentPositions, capacity);
+        }
+        segmentKeys[segmentCount] = key;
+        // a single key segment has no upper limit, any slope fits
+        slopes[segmentCount] = maxSlope == Double.POSITIVE_INFINITY ? minSlope : (minSlope + maxSlope) / 2;
+        segmentPositions[segmentCount] = position;
+        segmentCount++;
+    }
+
+    /**
+     * Index of the first value greater or equal to the search value, size() if none.
+     */
+    int lowerBound(long searchValue) {
+        if (size == 0 || searchValue <= value(0)) return 0;
+        if (intValues != null && searchValue > Integer.MAX_VALUE) return size;
+
+        // the first key of the segment is <= searchValue, the first key of the next one is > searchValue
+        int segment = Search.upperBound(segmentKeys, searchValue) - 1;
+        int segmentStart = segmentPositions[segment];
+        int segmentEnd = segment + 1 < segmentCount ? segmentPositions[segment + 1] : size;
+
+        // in doubles, a key far after the last one of the segment can be predicted way past the int range
+        double predicted = segmentStart + slopes[segment] * ((double) searchValue - segmentKeys[segment]);
+        int from = (int) Math.max(segmentStart, Math.min(predicted - epsilon, segmentEnd));
+        int to = (int) Math.min(segmentEnd, Math.max(predicted + epsilon + 2, from));
+
+        int index = lowerBound(from, to, searchValue);
+        if (index == to && to < segmentEnd) {
+            // only after a run of duplicates longer than epsilon
+            index = gallopForward(to, segmentEnd, searchValue);
+        } else if (index == from && from > segmentStart && value(from - 1) >= searchValue) {
+            index = gallopBackward(segmentStart, from, searchValue);
+        }
+        return index;
+    }
+
+    /**
+     * Index of the search value, -1 if it isn't there.
+     */
+    int indexOf(long searchValue) {
+        int index = lowerBound(searchValue);
+        return index < size && value(index) == searchValue ? index : -1;
+    }
+
+    private long value(int index) {
+        return intValues != null ? intValues[index] : longValues[index];
+    }
+
+    private int lowerBound(int from, int to, long searchValue) {
+        // lowerBound(long) already answered the keys out of the int range
+        return intValues != null
+                ? Search.lowerBound(intValues, from, to, (int) searchValue)
+                : Search.lowerBound(longValues, from, to, searchValue);
+    }
+
+    /**
+     * Lower bound in [from, to), knowing that value(from - 1) < searchValue.
+     */
+    private int gallopForward(int from, int to, long searchValue) {
+        int step = 1;
+        while (from + step < to && value(from + step - 1) < searchValue) {
+            from += step;
+            step <<= 1;
+        }
+        return lowerBound(from, Math.min(from + step, to), searchValue);
+    }
+
+    /**
+     * Lower bound in [from, to], knowing that it isn't after to.
+     */
+    private int gallopBackward(int from, int to, long searchValue) {
+        int step = 1;
+        while (to - step > from && value(to - step) >= searchValue) {
+            to -= step;
+            step <<= 1;
+        }
+        return lowerBound(Math.max(to - step, from), to, searchValue);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int epsilon() {
+        return epsilon;
+    }
+
+    int segmentCount() {
+        return segmentCount;
+    }
+}
@@ -0,0 +1,154 @@
+package algorithms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Searches in a memory-mapped file of sorted fixed width ints or longs, for key sets that are too big to be loaded
+ * in the heap (like the output of {@link ExternalSort}).
+ * <p>
+ * Opening it only maps the file, nothing is read until a search touches a page, so startup doesn't depend on the
+ * size of the file. The mapping is read-only and backed by the OS page cache, which is shared with every other
+ * process that maps or reads the same file. A mapped buffer is limited to 2GB, so the file is mapped in 1GB
+ * segments, and the indexes are longs. There's no way to unmap a buffer in Java 8, the mapping is released when the
+ * instance is garbage collected.
+ * <p>
+ * The searches are the branchless ones of {@link Search} on long indexes: O(log(n)) page accesses, the first
+ * levels of which stay in the page cache between searches.
+ */
+class MappedSearch {
+    /**
+     * 1GB segments, a multiple of both widths so that no value is split over two segments.
+     */
+    static final int SEGMENT_SHIFT = 30;
+
+    private final ByteBuffer[] segments;
+    private final int segmentShift;
+    private final long segmentMask;
+    private final int width;
+    private final long size;
+
+    /**
+     * Maps a file of sorted ints, written in the given byte order.
+     */
+    static MappedSearch ofInts(Path file, ByteOrder order) throws IOException {
+        return new MappedSearch(file, Integer.BYTES, order, SEGMENT_SHIFT);
+    }
+
+    /**
+     * Maps a file of sorted longs, written in the given byte order.
+     */
+    static MappedSearch ofLongs(Path file, ByteOrder order) throws IOException {
+        return new MappedSearch(file, Long.BYTES, order, SEGMENT_SHIFT);
+    }
+
+    /**
+     * @param segmentShift log2 of the size of the mapped segments in bytes, smaller in tests to get several segments.
+     */
+    MappedSearch(Path file, int width, ByteOrder order, int segmentShift) throws IOException {
+        if (width != Integer.BYTES && width != Long.BYTES) {
+            throw new IllegalArgumentException("Width must be " + Integer.BYTES + " or " + Long.BYTES + ": " + width);
+        }
+        if (segmentShift < 3 || segmentShift > SEGMENT_SHIFT) {
+            throw new IllegalArgumentException("Segment shift out of range: " + segmentShift);
+        }
+        this.width = width;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            long bytes = channel.size();
+            if (bytes % width != 0) {
+                throw new IllegalArgumentException("File size is not a multiple of " + width + ": " + bytes);
+            }
+            size = bytes / width;
+
+            long segmentBytes = 1L << segmentShift;
+            segments = new ByteBuffer[(int) ((bytes + segmentBytes - 1) >>> segmentShift)];
+            for (int i = 0; i < segments.length; i++) {
+                long start = (long) i << segmentShift;
+                // the mapping stays valid after the channel is closed
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(segmentBytes, bytes - start))
+                        .order(order);
+            }
+        }
+    }
+
+    /**
+     * Number of values in the file.
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Value at the given index, sign extended for a file of ints.
+     */
+    long get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return value(index);
+    }
+
+    private long value(long index) {
+        long offset = index * width;
+        ByteBuffer segment = segments[(int) (offset >>> segmentShift)];
+        int position = (int) (offset & segmentMask);
+
+        return width == Integer.BYTES ? segment.getInt(position) : segment.getLong(position);
+    }
+
+    /**
+     * Index of the first value greater or equal to the search value, size() if none.
+     */
+    long lowerBound(long searchValue) {
+        long length = size;
+        if (length == 0) return 0;
+
+        long base = 0;
+        while (length > 1) {
+            long half = length >>> 1;
+            base = value(base + half) < searchValue ? base + half : base;
+            length -= half;
+        }
+        return base + (value(base) < searchValue ? 1 : 0);
+    }
+
+    /**
+     * Index of the first value strictly greater than the search value, size() if none.
+     */
+    long upperBound(long searchValue) {
+        long length = size;
+        if (length == 0) return 0;
+
+        long base = 0;
+        while (length > 1) {
+            long half = length >>> 1;
+            base = value(base + half) <= searchValue ? base + half : base;
+            length -= half;
+        }
+        return base + (value(base) <= searchValue ? 1 : 0);
+    }
+
+    /**
+     * First index of the search value, -1 if it isn't there.
+     */
+    long indexOf(long searchValue) {
+        long index = lowerBound(searchValue);
+        return index < size && value(index) == searchValue ? index : -1;
+    }
+
+    /**
+     * Number of values in [low, high], both inclusive, 0 if low > high.
+     */
+    long countInRange(long low, long high) {
+        if (low > high) return 0;
+        return upperBound(high) - lowerBound(low);
+    }
+}
@@ -1,10 +1,19 @@
 package algorithms;
 
+import java.util.function.IntToDoubleFunction;
+
 class Search {
+    // searches of a batch that run in lockstep, enough independent loads to keep the memory system busy
+    private static final int BATCH_WIDTH = 16;
+    // below that, a binary search is a handful of probes, there's nothing to win by choosing another strategy
+    private static final int CHOOSE_MIN_LENGTH = 64;
+    private static final int CHOOSE_SAMPLES = 64;
+
     private Search() {}
 
     private static int getHalfPoint(int min, int max) {
-        return (int) Math.floor((min + max) / 2);
+        // unsigned shift, so that min + max can't overflow into a negative index
+        return (min + max) >>> 1;
     }
 
     /**
@@ -35,7 +44,7 @@ class Search {
     private static int findIndex(int[] values, int searchValue, int min, int max) {
         int halfPoint = getHalfPoint(min, max);
 
-        if (min >= max) {
+        if (min > max) {
             return -1;
         }
 
@@ -57,4 +66,408 @@ class Search {
     static int binarySearchRecursive(int[] values, int searchValue) {
         return findIndex(values, searchValue, 0, values.length - 1);
     }
+
+    /**
+     * Branchless lower bound: index of the first value greater or equal to the search value, values.length if none.
+     * <p>
+     * Instead of stopping early on a match, it always halves the range until one element is left, and the only
+     * decision per step (move the base or not) is a conditional move rather than a jump. The number of steps
+     * only depends on the length, so there's nothing for the branch predictor to get wrong: O(log(n)).
+     */
+    static int lowerBoundBranchless(int[] values, int searchValue) {
+        return lowerBound(values, 0, values.length, searchValue);
+    }
+
+    /**
+     * {@link #lowerBoundBranchless(int[], int)} in values[from, to): from if all of them are greater or equal to the
+     * search value, to if none is.
+     */
+    static int lowerBound(int[] values, int from, int to, int searchValue) {
+        int length = to - from;
+        if (length == 0) return from;
+
+        int base = from;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = values[base + half] < searchValue ? base + half : base;
+            length -= half;
+        }
+        return base + (values[base] < searchValue ? 1 : 0);
+    }
+
+    /**
+     * Exact match on top of {@link #lowerBoundBranchless(int[], int)}, same result as
+     * {@link #binarySearch(int[], int)} if there are no duplicates (otherwise it's the first index of the value).
+     * O(log(n)).
+     */
+    static int binarySearchBranchless(int[] values, int searchValue) {
+        int index = lowerBoundBranchless(values, searchValue);
+        return index < values.length && values[index] == searchValue ? index : -1;
+    }
+
+    /**
+     * Batch version of {@link #binarySearchBranchless(int[], int)}: result[i] is the index of keys[i] in values,
+     * -1 if it's not there.
+     * <p>
+     * Looping over single searches waits for every load of a descent before starting the next one. Here:
+     * <ul>
+     * <li>if the keys are sorted, the lower bound of each key can only be at or after the previous one, so it's a
+     * merge of both arrays that gallops (1, 2, 4, ... steps) from the last position and finishes with a binary
+     * search in the last step: O(m * log(n / m)) for m keys, O(n + m) at most.</li>
+     * <li>otherwise, the keys go in groups of {@value #BATCH_WIDTH} branchless searches run in lockstep. They all
+     * halve a range of the same length, so each step issues {@value #BATCH_WIDTH} independent loads that the CPU
+     * can have in flight at the same time, instead of one: O(m * log(n)).</li>
+     * </ul>
+     */
+    static void binarySearch(int[] values, int[] keys, int[] result) {
+        if (result.length < keys.length) {
+            throw new IllegalArgumentException("Result of length " + result.length + " for " + keys.length + " keys");
+        }
+
+        if (isSorted(keys)) {
+            gallopingLowerBounds(values, keys, result);
+        } else {
+            interleavedLowerBounds(values, keys, result);
+        }
+
+        for (int i = 0; i < keys.length; i++) {
+            int index = result[i];
+            result[i] = index < values.length && values[index] == keys[i] ? index : -1;
+        }
+    }
+
+    private static boolean isSorted(int[] keys) {
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i - 1] > keys[i]) return false;
+        }
+        return true;
+    }
+
+    private static void gallopingLowerBounds(int[] values, int[] keys, int[] result) {
+        int position = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            int key = keys[i];
+
+            if (position < values.length && values[position] < key) {
+                // values[position] < key, find a step where it isn't the case anymore
+                int step = 1;
+                while (position + step < values.length && values[position + step] < key) {
+                    position += step;
+                    step <<= 1;
+                }
+                position = lowerBound(values, position + 1, Math.min(position + step, values.length), key);
+            }
+            result[i] = position;
+        }
+    }
+
+    private static void interleavedLowerBounds(int[] values, int[] keys, int[] result) {
+        int[] bases = new int[BATCH_WIDTH];
+
+        for (int from = 0; from < keys.length; from += BATCH_WIDTH) {
+            int width = Math.min(BATCH_WIDTH, keys.length - from);
+            int length = values.length;
+
+            if (length == 0) {
+                for (int j = 0; j < width; j++) {
+                    result[from + j] = 0;
+                }
+                continue;
+            }
+
+            for (int j = 0; j < width; j++) {
+                bases[j] = 0;
+            }
+            while (length > 1) {
+                int half = length >>> 1;
+                for (int j = 0; j < width; j++) {
+                    int base = bases[j];
+                    // all ones if the probe is below the key, without a branch the predictor would miss half the time
+                    int below = (int) (((long) values[base + half] - keys[from + j]) >> 63);
+                    bases[j] = base + (half & below);
+                }
+                length -= half;
+            }
+            for (int j = 0; j < width; j++) {
+                int base = bases[j];
+                result[from + j] = base + (values[base] < keys[from + j] ? 1 : 0);
+            }
+        }
+    }
+
+    /**
+     * Index of the first value greater or equal to the search value, values.length if none: O(log(n)).
+     */
+    static int lowerBound(int[] values, int searchValue) {
+        return lowerBound(values, 0, values.length, searchValue);
+    }
+
+    static int lowerBound(long[] values, long searchValue) {
+        return lowerBound(values, 0, values.length, searchValue);
+    }
+
+    static int lowerBound(long[] values, int from, int to, long searchValue) {
+        int length = to - from;
+        if (length == 0) return from;
+
+        int base = from;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = values[base + half] < searchValue ? base + half : base;
+            length -= half;
+        }
+        return base + (values[base] < searchValue ? 1 : 0);
+    }
+
+    /**
+     * Index of the first value strictly greater than the search value, values.length if none: O(log(n)).
+     */
+    static int upperBound(int[] values, int searchValue) {
+        int length = values.length;
+        if (length == 0) return 0;
+
+        int base = 0;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = values[base + half] <= searchValue ? base + half : base;
+            length -= half;
+        }
+        return base + (values[base] <= searchValue ? 1 : 0);
+    }
+
+    static int upperBound(long[] values, long searchValue) {
+        int length = values.length;
+        if (length == 0) return 0;
+
+        int base = 0;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = values[base + half] <= searchValue ? base + half : base;
+            length -= half;
+        }
+        return base + (values[base] <= searchValue ? 1 : 0);
+    }
+
+    /**
+     * Range {from, to} (to exclusive) of the values equal to the search value, empty (from == to) at the position
+     * it would be inserted if there's none: O(log(n)).
+     */
+    static int[] equalRange(int[] values, int searchValue) {
+        return new int[]{lowerBound(values, searchValue), upperBound(values, searchValue)};
+    }
+
+    static int[] equalRange(long[] values, long searchValue) {
+        return new int[]{lowerBound(values, searchValue), upperBound(values, searchValue)};
+    }
+
+    /**
+     * Number of values in [low, high], both inclusive, 0 if low > high: O(log(n)).
+     */
+    static int countInRange(int[] values, int low, int high) {
+        if (low > high) return 0;
+        return upperBound(values, high) - lowerBound(values, low);
+    }
+
+    static int countInRange(long[] values, long low, long high) {
+        if (low > high) return 0;
+        return upperBound(values, high) - lowerBound(values, low);
+    }
+
+    /**
+     * Exponential (galloping) search: probes indexes 0, 1, 3, 7, ... until it passes the search value, then binary
+     * searches the last step. Returns the first index of the value, -1 if it's not there.
+     * <p>
+     * It only looks as far as the value is, so it's O(log(i)) for a value at index i: better than a binary search
+     * for values near the start, and it works the same on an array that is only partly filled yet (a stream being
+     * appended to), as long as the part that matters is.
+     */
+    static int exponentialSearch(int[] values, int searchValue) {
+        int index = exponentialLowerBound(values, searchValue);
+        return index < values.length && values[index] == searchValue ? index : -1;
+    }
+
+    static int exponentialSearch(long[] values, long searchValue) {
+        int index = exponentialLowerBound(values, searchValue);
+        return index < values.length && values[index] == searchValue ? index : -1;
+    }
+
+    private static int exponentialLowerBound(int[] values, int searchValue) {
+        if (values.length == 0 || values[0] >= searchValue) return 0;
+
+        // values[bound] < searchValue
+        int bound = 0;
+        int step = 1;
+        while (bound + step < values.length && values[bound + step] < searchValue) {
+            bound += step;
+            step <<= 1;
+        }
+        return lowerBound(values, bound + 1, Math.min(bound + step, values.length), searchValue);
+    }
+
+    private static int exponentialLowerBound(long[] values, long searchValue) {
+        if (values.length == 0 || values[0] >= searchValue) return 0;
+
+        int bound = 0;
+        int step = 1;
+        while (bound + step < values.length && values[bound + step] < searchValue) {
+            bound += step;
+            step <<= 1;
+        }
+        return lowerBound(values, bound + 1, Math.min(bound + step, values.length), searchValue);
+    }
+
+    /**
+     * Interpolation search: instead of the middle, probes where the value would be if the values were evenly spread
+     * between both ends of the range. Returns the first index of the value, -1 if it's not there.
+     * <p>
+     * Best case: O(1), the values are an arithmetic progression.
+     * Average case: O(log(log(n))), uniformly distributed values.
+     * Worst case: O(log(n)), it gives up on interpolating after log(n) probes and binary searches what's left.
+     */
+    static int interpolationSearch(int[] values, int searchValue) {
+        int index = interpolationLowerBound(values, searchValue);
+        return index < values.length && values[index] == searchValue ? index : -1;
+    }
+
+    static int interpolationSearch(long[] values, long searchValue) {
+        int index = interpolationLowerBound(values, searchValue);
+        return index < values.length && values[index] == searchValue ? index : -1;
+    }
+
+    private static int interpolationLowerBound(int[] values, int searchValue) {
+        int low = 0;
+        int high = values.length;
+
+        // the lower bound is in [low, high]
+        for (int probes = 32 - Integer.numberOfLeadingZeros(high); high - low > 1 && probes > 0; probes--) {
+            int first = values[low];
+            int last = values[high - 1];
+            if (searchValue <= first) return low;
+            if (searchValue > last) return high;
+
+            // first < searchValue <= last, so the probe is in [low, high - 1]
+            int probe = low + (int) (((double) searchValue - first) / ((double) last - first) * (high - 1 - low));
+            if (values[probe] < searchValue) {
+                low = probe + 1;
+            } else {
+                high = probe;
+            }
+        }
+        return lowerBound(values, low, high, searchValue);
+    }
+
+    private static int interpolationLowerBound(long[] values, long searchValue) {
+        int low = 0;
+        int high = values.length;
+
+        for (int probes = 32 - Integer.numberOfLeadingZeros(high); high - low > 1 && probes > 0; probes--) {
+            long first = values[low];
+            long last = values[high - 1];
+            if (searchValue <= first) return low;
+            if (searchValue > last) return high;
+
+            int probe = low + (int) (((double) searchValue - first) / ((double) last - first) * (high - 1 - low));
+            if (values[probe] < searchValue) {
+                low = probe + 1;
+            } else {
+                high = probe;
+            }
+        }
+        return lowerBound(values, low, high, searchValue);
+    }
+
+    /**
+     * The lower bound searches above, to pick one once per array with {@link #choose(int[])} and use it for every
+     * lookup after that.
+     */
+    enum Strategy {
+        BINARY {
+            @Override
+            int lowerBound(int[] values, int searchValue) {
+                return Search.lowerBound(values, searchValue);
+            }
+
+            @Override
+            int lowerBound(long[] values, long searchValue) {
+                return Search.lowerBound(values, searchValue);
+            }
+        },
+        INTERPOLATION {
+            @Override
+            int lowerBound(int[] values, int searchValue) {
+                return interpolationLowerBound(values, searchValue);
+            }
+
+            @Override
+            int lowerBound(long[] values, long searchValue) {
+                return interpolationLowerBound(values, searchValue);
+            }
+        },
+        EXPONENTIAL {
+            @Override
+            int lowerBound(int[] values, int searchValue) {
+                return exponentialLowerBound(values, searchValue);
+            }
+
+            @Override
+            int lowerBound(long[] values, long searchValue) {
+                return exponentialLowerBound(values, searchValue);
+            }
+        };
+
+        abstract int lowerBound(int[] values, int searchValue);
+
+        abstract int lowerBound(long[] values, long searchValue);
+
+        /**
+         * First index of the value, -1 if it's not there.
+         */
+        int indexOf(int[] values, int searchValue) {
+            int index = lowerBound(values, searchValue);
+            return index < values.length && values[index] == searchValue ? index : -1;
+        }
+
+        int indexOf(long[] values, long searchValue) {
+            int index = lowerBound(values, searchValue);
+            return index < values.length && values[index] == searchValue ? index : -1;
+        }
+    }
+
+    /**
+     * Picks the strategy for lookups of arbitrary keys into these values, from a sample of {@value #CHOOSE_SAMPLES}
+     * evenly spaced values: if none of them is further than the sampling step from where a straight line from the
+     * first to the last value puts it, the values are close enough to uniform for {@link Strategy#INTERPOLATION},
+     * otherwise (clusters, gaps, exponential growth, ...) it's {@link Strategy#BINARY}.
+     * <p>
+     * {@link Strategy#EXPONENTIAL} depends on the lookups rather than the values (keys near the start, or an array
+     * still being filled), so it's never chosen here.
+     */
+    static Strategy choose(int[] values) {
+        int length = values.length;
+        if (length < CHOOSE_MIN_LENGTH) return Strategy.BINARY;
+
+        double first = values[0];
+        double slope = (length - 1) / ((double) values[length - 1] - first);
+        return isLinear(length, i -> (values[i] - first) * slope) ? Strategy.INTERPOLATION : Strategy.BINARY;
+    }
+
+    static Strategy choose(long[] values) {
+        int length = values.length;
+        if (length < CHOOSE_MIN_LENGTH) return Strategy.BINARY;
+
+        double first = values[0];
+        double slope = (length - 1) / ((double) values[length - 1] - first);
+        return isLinear(length, i -> (values[i] - first) * slope) ? Strategy.INTERPOLATION : Strategy.BINARY;
+    }
+
+    private static boolean isLinear(int length, IntToDoubleFunction predictedIndex) {
+        int step = length / CHOOSE_SAMPLES;
+
+        for (int i = 0; i < length; i += step) {
+            // NaN (all values equal) fails the comparison as well
+            if (!(Math.abs(predictedIndex.applyAsDouble(i) - i) <= step)) return false;
+        }
+        return true;
+    }
 }
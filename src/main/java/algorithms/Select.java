@@ -0,0 +1,364 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Selection of order statistics (nth smallest value, top k, quantiles) without sorting the whole array.
+ * <p>
+ * All the operations are introselect: quickselect on top of the same dual-pivot partitioning as
+ * {@link Sort#quickSort(int[])}, which only follows the part that contains the wanted position. If two partitions
+ * in a row don't halve the range, the next one uses median-of-medians pivots, which cut off at least 30% of it.
+ * So every three partitions at most shrink the range by a constant fraction, for work that shrinks geometrically.
+ * The array is rearranged in place.
+ * <p>
+ * Best case: O(n).
+ * Average case: O(n).
+ * Worst case: O(n) thanks to the median-of-medians fallback.
+ */
+class Select {
+    /**
+     * Ranges smaller than this are simply sorted with insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private Select() {}
+
+    /**
+     * Finds the value that would be at index n if the array was sorted. Afterwards the value is at index n, all
+     * the values before it are smaller or equal and all the values after it are bigger or equal.
+     *
+     * @param n sorted position to find the value for, 0 is the minimum.
+     * @return value at sorted position n.
+     */
+    static int nthElement(int[] array, int n) {
+        if (n < 0 || n >= array.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        introSelect(array, 0, array.length - 1, n);
+        return array[n];
+    }
+
+    /**
+     * Finds the k largest values, which end up at the end of the array in no particular order.
+     *
+     * @return copy of the k largest values, unordered.
+     */
+    static int[] topK(int[] array, int k) {
+        if (k < 0 || k > array.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (k == 0) return new int[0];
+
+        int from = array.length - k;
+        introSelect(array, 0, array.length - 1, from);
+        return Arrays.copyOfRange(array, from, array.length);
+    }
+
+    /**
+     * Same as {@link #topK(int[], int)}, but sorts the result (in ascending order, like {@link Sort}).
+     * O(n + k*log(k)).
+     */
+    static int[] topKOrdered(int[] array, int k) {
+        return Sort.quickSort(topK(array, k));
+    }
+
+    /**
+     * Finds the values at several sorted positions at once. Each selection only partitions the range between the
+     * positions found before it, so it's cheaper than calling {@link #nthElement(int[], int)} for each rank.
+     * O(n*log(m)) for m ranks.
+     *
+     * @param ranks sorted positions, in any order.
+     * @return value at each of the sorted positions, in the order of the ranks.
+     */
+    static int[] select(int[] array, int... ranks) {
+        int[] sortedRanks = Sort.insertionSort(Arrays.copyOf(ranks, ranks.length));
+
+        if (sortedRanks.length > 0 && (sortedRanks[0] < 0 || sortedRanks[sortedRanks.length - 1] >= array.length)) {
+            throw new IndexOutOfBoundsException();
+        }
+        multiSelect(array, 0, array.length - 1, sortedRanks, 0, sortedRanks.length);
+
+        int[] values = new int[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            values[i] = array[ranks[i]];
+        }
+        return values;
+    }
+
+    /**
+     * Finds several quantiles at once, i.e. 0.5 for the median, 0.99 for the 99th percentile. Quantile q is the
+     * value at sorted position floor(q*(n-1)).
+     *
+     * @return value of each quantile, in the order of the quantiles.
+     */
+    static int[] quantiles(int[] array, double... quantiles) {
+        return select(array, ranks(array.length, quantiles));
+    }
+
+    private static int[] ranks(int length, double[] quantiles) {
+        int[] ranks = new int[quantiles.length];
+
+        for (int i = 0; i < quantiles.length; i++) {
+            if (!(quantiles[i] >= 0 && quantiles[i] <= 1)) {
+                throw new IllegalArgumentException("Quantile out of range: " + quantiles[i]);
+            }
+            ranks[i] = (int) (quantiles[i] * (length - 1));
+        }
+        return ranks;
+    }
+
+    private static void multiSelect(int[] array, int left, int right, int[] ranks, int from, int to) {
+        if (from >= to) return;
+
+        // select the middle rank, the others are either left or right of it
+        int middle = (from + to) >>> 1;
+        int rank = ranks[middle];
+        introSelect(array, left, right, rank);
+
+        int lower = middle;
+        while (lower > from && ranks[lower - 1] == rank) {
+            lower--;
+        }
+        int upper = middle + 1;
+        while (upper < to && ranks[upper] == rank) {
+            upper++;
+        }
+
+        multiSelect(array, left, rank - 1, ranks, from, lower);
+        multiSelect(array, rank + 1, right, ranks, upper, to);
+    }
+
+    /**
+     * Introselect: narrows array[left, right] down to the part containing position n.
+     */
+    private static void introSelect(int[] array, int left, int right, int n) {
+        // size of the range when it was last halved, and the partitions that failed to halve it since
+        int checkpoint = right - left + 1;
+        int misses = 0;
+
+        while (right - left + 1 >= INSERTION_SORT_THRESHOLD) {
+            long pivots = misses < 2 ? Sort.partition(array, left, right)
+                    : medianOfMediansPartition(array, left, right);
+            int less = Sort.lowerPivot(pivots);
+            int great = Sort.upperPivot(pivots);
+
+            if (n < less) {
+                right = less - 1;
+            } else if (n > great) {
+                left = great + 1;
+            } else if (n == less || n == great || array[less] == array[great]) {
+                // found it, or it's in a part where all the values are equal
+                return;
+            } else {
+                left = less + 1;
+                right = great - 1;
+            }
+
+            int size = right - left + 1;
+            if (misses == 2 || size <= checkpoint / 2) {
+                checkpoint = size;
+                misses = 0;
+            } else {
+                misses++;
+            }
+        }
+        Sort.insertionSort(array, left, right + 1);
+    }
+
+    /**
+     * Partitions array[left, right] around the median of medians of groups of five, which is guaranteed to have
+     * at least 30% of the values on each side.
+     *
+     * @return bounds of the values equal to the pivot, packed like {@link Sort#partition(int[], int, int)}.
+     */
+    private static long medianOfMediansPartition(int[] array, int left, int right) {
+        // move the median of each group of five to the front
+        int medians = 0;
+        for (int group = left; group <= right; group += 5) {
+            int groupEnd = Math.min(group + 5, right + 1);
+            Sort.insertionSort(array, group, groupEnd);
+            swap(array, left + medians++, (group + groupEnd - 1) >>> 1);
+        }
+
+        // the median of the medians is selected recursively
+        int median = left + (medians - 1) / 2;
+        introSelect(array, left, left + medians - 1, median);
+
+        return threeWayPartition(array, left, right, array[median]);
+    }
+
+    /**
+     * Splits array[left, right] into values smaller than, equal to and bigger than the pivot (Dijkstra's Dutch
+     * national flag).
+     *
+     * @return first and last position of the values equal to the pivot.
+     */
+    private static long threeWayPartition(int[] array, int left, int right, int pivot) {
+        int less = left;
+        int great = right;
+        int k = left;
+
+        while (k <= great) {
+            if (array[k] < pivot) {
+                swap(array, k++, less++);
+            } else if (array[k] > pivot) {
+                swap(array, k, great--);
+            } else {
+                k++;
+            }
+        }
+        return Sort.pivots(less, great);
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Same as {@link #nthElement(int[], int)} for longs.
+     */
+    static long nthElement(long[] array, int n) {
+        if (n < 0 || n >= array.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        introSelect(array, 0, array.length - 1, n);
+        return array[n];
+    }
+
+    /**
+     * Same as {@link #topK(int[], int)} for longs.
+     */
+    static long[] topK(long[] array, int k) {
+        if (k < 0 || k > array.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (k == 0) return new long[0];
+
+        int from = array.length - k;
+        introSelect(array, 0, array.length - 1, from);
+        return Arrays.copyOfRange(array, from, array.length);
+    }
+
+    /**
+     * Same as {@link #topKOrdered(int[], int)} for longs.
+     */
+    static long[] topKOrdered(long[] array, int k) {
+        return LongSort.quickSort(topK(array, k));
+    }
+
+    /**
+     * Same as {@link #select(int[], int...)} for longs.
+     */
+    static long[] select(long[] array, int... ranks) {
+        int[] sortedRanks = Sort.insertionSort(Arrays.copyOf(ranks, ranks.length));
+
+        if (sortedRanks.length > 0 && (sortedRanks[0] < 0 || sortedRanks[sortedRanks.length - 1] >= array.length)) {
+            throw new IndexOutOfBoundsException();
+        }
+        multiSelect(array, 0, array.length - 1, sortedRanks, 0, sortedRanks.length);
+
+        long[] values = new long[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            values[i] = array[ranks[i]];
+        }
+        return values;
+    }
+
+    /**
+     * Same as {@link #quantiles(int[], double...)} for longs.
+     */
+    static long[] quantiles(long[] array, double... quantiles) {
+        return select(array, ranks(array.length, quantiles));
+    }
+
+    private static void multiSelect(long[] array, int left, int right, int[] ranks, int from, int to) {
+        if (from >= to) return;
+
+        int middle = (from + to) >>> 1;
+        int rank = ranks[middle];
+        introSelect(array, left, right, rank);
+
+        int lower = middle;
+        while (lower > from && ranks[lower - 1] == rank) {
+            lower--;
+        }
+        int upper = middle + 1;
+        while (upper < to && ranks[upper] == rank) {
+            upper++;
+        }
+
+        multiSelect(array, left, rank - 1, ranks, from, lower);
+        multiSelect(array, rank + 1, right, ranks, upper, to);
+    }
+
+    private static void introSelect(long[] array, int left, int right, int n) {
+        int checkpoint = right - left + 1;
+        int misses = 0;
+
+        while (right - left + 1 >= INSERTION_SORT_THRESHOLD) {
+            long pivots = misses < 2 ? LongSort.partition(array, left, right)
+                    : medianOfMediansPartition(array, left, right);
+            int less = Sort.lowerPivot(pivots);
+            int great = Sort.upperPivot(pivots);
+
+            if (n < less) {
+                right = less - 1;
+            } else if (n > great) {
+                left = great + 1;
+            } else if (n == less || n == great || array[less] == array[great]) {
+                return;
+            } else {
+                left = less + 1;
+                right = great - 1;
+            }
+
+            int size = right - left + 1;
+            if (misses == 2 || size <= checkpoint / 2) {
+                checkpoint = size;
+                misses = 0;
+            } else {
+                misses++;
+            }
+        }
+        LongSort.insertionSort(array, left, right + 1);
+    }
+
+    private static long medianOfMediansPartition(long[] array, int left, int right) {
+        int medians = 0;
+        for (int group = left; group <= right; group += 5) {
+            int groupEnd = Math.min(group + 5, right + 1);
+            LongSort.insertionSort(array, group, groupEnd);
+            swap(array, left + medians++, (group + groupEnd - 1) >>> 1);
+        }
+
+        int median = left + (medians - 1) / 2;
+        introSelect(array, left, left + medians - 1, median);
+
+        return threeWayPartition(array, left, right, array[median]);
+    }
+
+    private static long threeWayPartition(long[] array, int left, int right, long pivot) {
+        int less = left;
+        int great = right;
+        int k = left;
+
+        while (k <= great) {
+            if (array[k] < pivot) {
+                swap(array, k++, less++);
+            } else if (array[k] > pivot) {
+                swap(array, k, great--);
+            } else {
+                k++;
+            }
+        }
+        return Sort.pivots(less, great);
+    }
+
+    private static void swap(long[] array, int i, int j) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
@@ -0,0 +1,402 @@
+package algorithms;
+
+/*
+ * Generated from src/main/template/algorithms/PrimitiveSort.java.template by the generatePrimitiveSorts task.
+ * Edit the template instead of this file.
+ */
+
+/**
+ * {@link Sort} for short[] without boxing: insertion sort, natural mergesort and dual-pivot introsort, with the same
+ * complexity as their int[] versions. Values are ordered by {@link Short#compare(short, short)} (for double[]
+ * that puts -0.0 before 0.0 and NaN last, same as {@link java.util.Arrays#sort(double[])}).
+ */
+class ShortSort {
+    private ShortSort() {}
+
+    /**
+     * See {@link Sort#insertionSort(int[])}.
+     */
+    static short[] insertionSort(short[] array) {
+        insertionSort(array, 0, array.length);
+        return array;
+    }
+
+    static void insertionSort(short[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            short value = array[i];
+            int j = i;
+
+            // shift bigger values from left to right
+            while (j > from && less(value, array[j - 1])) {
+                array[j] = array[j - 1];
+                j--;
+            }
+            array[j] = value;
+        }
+    }
+
+    /**
+     * See {@link Sort#mergeSort(int[])}.
+     */
+    static short[] mergeSort(short[] array) {
+        if (array.length <= 1) return array;
+
+        return mergeSort(array, new short[array.length]);
+    }
+
+    /**
+     * See {@link Sort#mergeSort(int[], int[])}.
+     *
+     * @param buffer scratch space, at least as long as the array.
+     */
+    static short[] mergeSort(short[] array, short[] buffer) {
+        if (buffer.length < array.length) {
+            throw new IllegalArgumentException("Buffer is smaller than the array: " + buffer.length);
+        }
+        mergeSort(array, buffer, 0, array.length);
+        return array;
+    }
+
+    private static void mergeSort(short[] array, short[] buffer, int from, int to) {
+        if (to - from <= 1) return;
+
+        // turn the input into ascending runs of at least MIN_RUN elements
+        int runStart = from;
+        while (runStart < to) {
+            int runEnd = findRun(array, runStart, to);
+
+            if (runEnd - runStart < Sort.MIN_RUN) {
+                int extendedEnd = Math.min(runStart + Sort.MIN_RUN, to);
+                binaryInsertionSort(array, runStart, runEnd, extendedEnd);
+                runEnd = extendedEnd;
+            }
+            runStart = runEnd;
+        }
+
+        // merge pairs of neighbouring runs, alternating between the array and the buffer as source
+        short[] source = array;
+        short[] target = buffer;
+
+        while (true) {
+            int firstStart = from;
+            int firstEnd = ascendingRunEnd(source, firstStart, to);
+
+            // a single run left, everything is sorted
+            if (firstEnd == to) break;
+
+            while (firstStart < to) {
+                if (firstEnd == to) {
+                    // odd run out, carry it over as is
+                    System.arraycopy(source, firstStart, target, firstStart, to - firstStart);
+                    break;
+                }
+                int secondEnd = ascendingRunEnd(source, firstEnd, to);
+                merge(source, firstStart, firstEnd, firstEnd, secondEnd, target, firstStart);
+
+                firstStart = secondEnd;
+                if (firstStart < to) {
+                    firstEnd = ascendingRunEnd(source, firstStart, to);
+                }
+            }
+
+            short[] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        // the last pass might have left the result in the buffer
+        if (source != array) {
+            System.arraycopy(source, from, array, from, to - from);
+        }
+    }
+
+    private static int findRun(short[] array, int from, int to) {
+        int end = from + 1;
+        if (end == to) return end;
+
+        if (less(array[end], array[from])) {
+            while (end < to && less(array[end], array[end - 1])) {
+                end++;
+            }
+            reverse(array, from, end);
+        } else {
+            end = ascendingRunEnd(array, from, to);
+        }
+        return end;
+    }
+
+    private static int ascendingRunEnd(short[] array, int from, int to) {
+        int end = from + 1;
+
+        while (end < to && !less(array[end], array[end - 1])) {
+            end++;
+        }
+        return end;
+    }
+
+    private static void reverse(short[] array, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            swap(array, i, j);
+        }
+    }
+
+    private static void binaryInsertionSort(short[] array, int from, int sortedEnd, int to) {
+        for (int i = sortedEnd; i < to; i++) {
+            short value = array[i];
+
+            // find the first bigger value, so that equal values keep their order
+            int low = from;
+            int high = i;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+
+                if (less(value, array[middle])) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+
+            System.arraycopy(array, low, array, low + 1, i - low);
+            array[low] = value;
+        }
+    }
+
+    private static void merge(short[] source, int firstFrom, int firstTo, int secondFrom, int secondTo,
+                              short[] target, int targetFrom) {
+        int firstIndex = firstFrom;
+        int secondIndex = secondFrom;
+        int targetIndex = targetFrom;
+
+        while (firstIndex < firstTo && secondIndex < secondTo) {
+            if (less(source[secondIndex], source[firstIndex])) {
+                target[targetIndex++] = source[secondIndex++];
+            } else {
+                target[targetIndex++] = source[firstIndex++];
+            }
+        }
+
+        // copy remaining elements into the target array
+        System.arraycopy(source, firstIndex, target, targetIndex, firstTo - firstIndex);
+        targetIndex += firstTo - firstIndex;
+        System.arraycopy(source, secondIndex, target, targetIndex, secondTo - secondIndex);
+    }
+
+    /**
+     * See {@link Sort#quickSort(int[])}.
+     */
+    static short[] quickSort(short[] array) {
+        return quickSort(array, Sort.INSERTION_SORT_THRESHOLD);
+    }
+
+    /**
+     * See {@link Sort#quickSort(int[], int)}.
+     *
+     * @param insertionThreshold partitions smaller than this are sorted with insertion sort.
+     */
+    static short[] quickSort(short[] array, int insertionThreshold) {
+        if (insertionThreshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + insertionThreshold);
+        }
+        doQuickSort(array, 0, array.length - 1, Sort.depthLimit(array.length), insertionThreshold);
+        return array;
+    }
+
+    private static void doQuickSort(short[] array, int left, int right, int depth, int threshold) {
+        if (right - left + 1 < threshold) {
+            insertionSort(array, left, right + 1);
+            return;
+        }
+        // too many bad partitions, finish off with the guaranteed O(n*log(n))
+        if (depth == 0) {
+            heapSort(array, left, right + 1);
+            return;
+        }
+
+        long pivots = partition(array, left, right);
+        int less = Sort.lowerPivot(pivots);
+        int great = Sort.upperPivot(pivots);
+
+        doQuickSort(array, left, less - 1, depth - 1, threshold);
+        doQuickSort(array, great + 1, right, depth - 1, threshold);
+
+        // the middle part only contains values equal to the pivots, if they are the same it's already sorted
+        if (same(array[less], array[great])) return;
+
+        // lots of values equal to the pivots (few distinct values), move them out of the way first
+        if (great - less > (right - left) / 2) {
+            long bounds = excludePivots(array, less, great);
+            less = Sort.lowerPivot(bounds);
+            great = Sort.upperPivot(bounds);
+        }
+        doQuickSort(array, less + 1, great - 1, depth - 1, threshold);
+    }
+
+    /**
+     * See {@link Sort#partition(int[], int, int)}.
+     *
+     * @return final positions of both pivots, packed with {@link Sort#pivots(int, int)}.
+     */
+    static long partition(short[] array, int left, int right) {
+        int length = right - left + 1;
+
+        if (length >= 8) {
+            // sort five evenly spaced elements and use the 2nd and 4th as pivots
+            int seventh = (length >> 3) + (length >> 6) + 1;
+            int e3 = (left + right) >>> 1;
+            int e2 = e3 - seventh;
+            int e1 = e2 - seventh;
+            int e4 = e3 + seventh;
+            int e5 = e4 + seventh;
+
+            sortSample(array, e1, e2, e3, e4, e5);
+            swap(array, left, e2);
+            swap(array, right, e4);
+        } else if (less(array[right], array[left])) {
+            swap(array, left, right);
+        }
+
+        short lowerPivot = array[left];
+        short upperPivot = array[right];
+
+        int less = left + 1;
+        int great = right - 1;
+
+        for (int k = less; k <= great; k++) {
+            short value = array[k];
+
+            if (less(value, lowerPivot)) {
+                // move to the left part
+                array[k] = array[less];
+                array[less++] = value;
+            } else if (less(upperPivot, value)) {
+                // skip over values that are already in the right part
+                while (less(upperPivot, array[great]) && k < great) {
+                    great--;
+                }
+                array[k] = array[great];
+                array[great--] = value;
+
+                // the swapped in value might belong in the left part
+                value = array[k];
+                if (less(value, lowerPivot)) {
+                    array[k] = array[less];
+                    array[less++] = value;
+                }
+            }
+        }
+
+        // move the pivots between the parts
+        less--;
+        great++;
+        array[left] = array[less];
+        array[less] = lowerPivot;
+        array[right] = array[great];
+        array[great] = upperPivot;
+
+        return Sort.pivots(less, great);
+    }
+
+    private static long excludePivots(short[] array, int less, int great) {
+        short lowerPivot = array[less];
+        short upperPivot = array[great];
+
+        int lower = less + 1;
+        int upper = great - 1;
+
+        while (lower <= upper && same(array[lower], lowerPivot)) {
+            lower++;
+        }
+        while (upper >= lower && same(array[upper], upperPivot)) {
+            upper--;
+        }
+
+        for (int k = lower; k <= upper; k++) {
+            short value = array[k];
+
+            if (same(value, lowerPivot)) {
+                array[k] = array[lower];
+                array[lower++] = value;
+            } else if (same(value, upperPivot)) {
+                while (same(array[upper], upperPivot) && k < upper) {
+                    upper--;
+                }
+                array[k] = array[upper];
+                array[upper--] = value;
+
+                value = array[k];
+                if (same(value, lowerPivot)) {
+                    array[k] = array[lower];
+                    array[lower++] = value;
+                }
+            }
+        }
+        return Sort.pivots(lower - 1, upper + 1);
+    }
+
+    private static void sortSample(short[] array, int e1, int e2, int e3, int e4, int e5) {
+        compareExchange(array, e1, e2);
+        compareExchange(array, e4, e5);
+        compareExchange(array, e3, e5);
+        compareExchange(array, e3, e4);
+        compareExchange(array, e1, e4);
+        compareExchange(array, e1, e3);
+        compareExchange(array, e2, e5);
+        compareExchange(array, e2, e4);
+        compareExchange(array, e2, e3);
+    }
+
+    private static void compareExchange(short[] array, int i, int j) {
+        if (less(array[j], array[i])) {
+            swap(array, i, j);
+        }
+    }
+
+    /**
+     * In-place heapsort of array[from, to), same as {@link Sort#heapSort(int[], int, int, SortCounter)}.
+     */
+    static void heapSort(short[] array, int from, int to) {
+        int offset = from - 1;
+        int size = to - from;
+
+        for (int i = size / 2; i > 0; i--) {
+            siftDown(array, offset, i, size);
+        }
+        for (int i = size; i > 1; i--) {
+            swap(array, from, offset + i);
+            siftDown(array, offset, 1, i - 1);
+        }
+    }
+
+    private static void siftDown(short[] heap, int offset, int index, int size) {
+        int maxIndex = index;
+        int leftIndex = 2 * index;
+        int rightIndex = 2 * index + 1;
+
+        if (leftIndex <= size && less(heap[offset + maxIndex], heap[offset + leftIndex])) {
+            maxIndex = leftIndex;
+        }
+        if (rightIndex <= size && less(heap[offset + maxIndex], heap[offset + rightIndex])) {
+            maxIndex = rightIndex;
+        }
+
+        if (index != maxIndex) {
+            swap(heap, offset + index, offset + maxIndex);
+            siftDown(heap, offset, maxIndex, size);
+        }
+    }
+
+    private static void swap(short[] array, int i, int j) {
+        short temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    private static boolean less(short value, short otherValue) {
+        return Short.compare(value, otherValue) < 0;
+    }
+
+    private static boolean same(short value, short otherValue) {
+        return Short.compare(value, otherValue) == 0;
+    }
+}
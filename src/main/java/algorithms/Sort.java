@@ -3,8 +3,20 @@ package algorithms;
 import dataStructures.tree.MaxHeap;
 
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 class Sort {
+    /**
+     * Sub-arrays smaller than this are sorted sequentially by the parallel sorts, forking tasks for them would cost
+     * more than it saves.
+     */
+    static final int PARALLEL_CUTOFF = 1 << 13;
+
     private Sort() {}
 
     /**
@@ -46,16 +58,31 @@ class Sort {
      * Worst case: O(n^2) if array is sorted in reverse order.
      */
     static int[] insertionSort(int[] array) {
-        // go through the whole array and put smaller values in the beginning
-        for (int i = 1; i < array.length; i++) {
-            // swap values from right to left
-            for (int j = i; j > 0 && array[j - 1] > array[j]; j--) {
-                int temp = array[j - 1];
-                array[j - 1] = array[j];
-                array[j] = temp;
+        insertionSort(array, 0, array.length);
+        return array;
+    }
+
+    /**
+     * Insertion sort of array[from, to), used by the other sorts for small partitions.
+     */
+    static void insertionSort(int[] array, int from, int to) {
+        insertionSort(array, from, to, SortCounter.NONE);
+    }
+
+    static void insertionSort(int[] array, int from, int to, SortCounter counter) {
+        // go through the whole range and put smaller values in the beginning
+        for (int i = from + 1; i < to; i++) {
+            int value = array[i];
+            int j = i;
+
+            // shift bigger values from left to right
+            while (j > from && less(value, array[j - 1], counter)) {
+                array[j] = array[j - 1];
+                j--;
             }
+            array[j] = value;
+            counter.write(i - j + 1);
         }
-        return array;
     }
 
     /**
@@ -89,51 +116,136 @@ class Sort {
      * While in general quicksort outperforms mergesort for RAM-based arrays, mergesort might be a good choice
      * when the dataset is sequential or doesn't allow random access (i.e. linked list) making quicksort impossible.
      * <p>
-     * Best case: O(n*log(n)) even if array is sorted in naive implementation. Natural Merge Sort will be O(n).
+     * This is a natural mergesort: it merges the ascending and descending runs that already exist in the input
+     * (see {@link #mergeSort(int[], int[])}), so it allocates a single scratch buffer for the whole sort.
+     * <p>
+     * Best case: O(n) if array is already sorted (or sorted in reverse order).
      * Average case: O(n*log(n)).
      * Worst case: O(n*log(n)).
      */
     static int[] mergeSort(int[] array) {
+        return mergeSort(array, SortCounter.NONE);
+    }
+
+    static int[] mergeSort(int[] array, SortCounter counter) {
         if (array.length <= 1) return array;
 
-        int[] first = new int[array.length / 2];
-        int[] second = new int[array.length - first.length];
+        mergeSort(array, new int[array.length], 0, array.length, counter);
+        return array;
+    }
+
+    /**
+     * Natural mergesort using a caller-supplied scratch buffer, so no memory is allocated if the buffer is reused.
+     * Like in TimSort, descending runs are reversed and short runs are extended up to {@link #MIN_RUN} elements,
+     * then neighbouring runs are merged back and forth between the array and the buffer until
+     * only one run remains. Stable.
+     *
+     * @param buffer scratch space, at least as long as the array.
+     */
+    static int[] mergeSort(int[] array, int[] buffer) {
+        if (buffer.length < array.length) {
+            throw new IllegalArgumentException("Buffer is smaller than the array: " + buffer.length);
+        }
+        mergeSort(array, buffer, 0, array.length, SortCounter.NONE);
+        return array;
+    }
 
-        // copy the elements to the halved arrays
-        System.arraycopy(array, 0, first, 0, first.length);
-        System.arraycopy(array, first.length, second, 0, second.length);
+    /**
+     * Runs shorter than this are extended with a {@link SortingNetwork} before merging, which is faster than merging
+     * lots of tiny runs.
+     */
+    static final int MIN_RUN = 32;
 
-        // sort each half
-        mergeSort(first);
-        mergeSort(second);
+    /**
+     * Sorts array[from, to) in place, using buffer[from, to) as scratch space.
+     */
+    private static void mergeSort(int[] array, int[] buffer, int from, int to, SortCounter counter) {
+        if (to - from <= 1) return;
 
-        // merge the sorted halves
-        return merge(array, first, second);
-    }
+        // turn the input into ascending runs of at least MIN_RUN elements
+        int runStart = from;
+        while (runStart < to) {
+            int runEnd = findRun(array, runStart, to, counter);
 
+            if (runEnd - runStart < MIN_RUN) {
+                int extendedEnd = Math.min(runStart + MIN_RUN, to);
+                SortingNetwork.sort(array, runStart, extendedEnd, counter);
+                runEnd = extendedEnd;
+            }
+            runStart = runEnd;
+        }
 
-    private static int[] merge(int[] result, int[] first, int[] second) {
-        int firstIndex = 0;
-        int secondIndex = 0;
-        int resultIndex = 0;
+        // merge pairs of neighbouring runs, alternating between the array and the buffer as source
+        int[] source = array;
+        int[] target = buffer;
 
+        while (true) {
+            int firstStart = from;
+            int firstEnd = ascendingRunEnd(source, firstStart, to, counter);
 
-        while (firstIndex < first.length && secondIndex < second.length) {
-            if (first[firstIndex] < second[secondIndex]) {
-                result[resultIndex] = first[firstIndex];
-                firstIndex++;
-            } else {
-                result[resultIndex] = second[secondIndex];
-                secondIndex++;
+            // a single run left, everything is sorted
+            if (firstEnd == to) break;
+
+            while (firstStart < to) {
+                if (firstEnd == to) {
+                    // odd run out, carry it over as is
+                    System.arraycopy(source, firstStart, target, firstStart, to - firstStart);
+                    counter.write(to - firstStart);
+                    break;
+                }
+                int secondEnd = ascendingRunEnd(source, firstEnd, to, counter);
+                merge(source, firstStart, firstEnd, firstEnd, secondEnd, target, firstStart, counter);
+
+                firstStart = secondEnd;
+                if (firstStart < to) {
+                    firstEnd = ascendingRunEnd(source, firstStart, to, counter);
+                }
+            }
+
+            int[] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        // the last pass might have left the result in the buffer
+        if (source != array) {
+            System.arraycopy(source, from, array, from, to - from);
+            counter.write(to - from);
+        }
+    }
+
+    /**
+     * Finds the end of the run starting at from. Strictly descending runs are reversed in place (strictly, so that
+     * equal elements never swap order), so the returned run is always ascending.
+     */
+    private static int findRun(int[] array, int from, int to, SortCounter counter) {
+        int end = from + 1;
+        if (end == to) return end;
+
+        if (less(array[end], array[from], counter)) {
+            while (end < to && less(array[end], array[end - 1], counter)) {
+                end++;
             }
-            resultIndex++;
+            reverse(array, from, end, counter);
+        } else {
+            end = ascendingRunEnd(array, from, to, counter);
         }
+        return end;
+    }
+
+    private static int ascendingRunEnd(int[] array, int from, int to, SortCounter counter) {
+        int end = from + 1;
 
-        // copy remaining elements into the resulting array
-        System.arraycopy(first, firstIndex, result, resultIndex, first.length - firstIndex);
-        System.arraycopy(second, secondIndex, result, resultIndex, second.length - secondIndex);
+        while (end < to && !less(array[end], array[end - 1], counter)) {
+            end++;
+        }
+        return end;
+    }
 
-        return result;
+    private static void reverse(int[] array, int from, int to, SortCounter counter) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            swap(array, i, j, counter);
+        }
     }
 
     /**
@@ -141,54 +253,1311 @@ class Sort {
      * Lots of standard libraries use it at the default sorting algorithm, i.e., Java core
      * uses insertion sort if n <= 17 and double-pivot quicksort for n > 17.
      * <p>
+     * This one is an introsort: dual-pivot quicksort that switches to a small-array sort for partitions smaller than
+     * {@link #INSERTION_SORT_THRESHOLD} and to heapsort once the recursion gets deeper than 2*log(n), which happens
+     * only on adversarial inputs. The depth limit also bounds the stack, so it can't overflow.
+     * <p>
      * Best case: O(n*log(n)) if partitions are as evenly balanced as possible.
      * Average case: O(n*log(n)).
-     * Worst case: O(n^2) with naive pivot (i.e. always the first element).
+     * Worst case: O(n*log(n)) thanks to the heapsort fallback (O(n^2) with a naive pivot and no fallback).
      */
     static int[] quickSort(int[] array) {
-        return doQuickSort(array, 0, array.length - 1);
+        return quickSort(array, INSERTION_SORT_THRESHOLD);
+    }
+
+    static int[] quickSort(int[] array, SortCounter counter) {
+        doQuickSort(array, 0, array.length - 1, depthLimit(array.length), INSERTION_SORT_THRESHOLD, counter);
+        return array;
+    }
+
+    /**
+     * Partitions smaller than this are sorted with {@link #smallSort(int[], int, int)}.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * Introsort with a custom insertion sort threshold.
+     *
+     * @param insertionThreshold partitions smaller than this are sorted with {@link #smallSort(int[], int, int)}.
+     */
+    static int[] quickSort(int[] array, int insertionThreshold) {
+        return quickSort(array, insertionThreshold, depthLimit(array.length), SortCounter.NONE);
+    }
+
+    /**
+     * Introsort with a custom insertion sort threshold and depth limit, so that the heapsort fallback can be
+     * reached without an adversarial input.
+     *
+     * @param depth partitioning levels before the heapsort fallback, 0 to go straight to heapsort.
+     */
+    static int[] quickSort(int[] array, int insertionThreshold, int depth, SortCounter counter) {
+        if (insertionThreshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + insertionThreshold);
+        }
+        if (depth < 0) {
+            throw new IllegalArgumentException("Depth must not be negative: " + depth);
+        }
+        doQuickSort(array, 0, array.length - 1, depth, insertionThreshold, counter);
+        return array;
+    }
+
+    /**
+     * Base case of the divide-and-conquer sorts: a branch-free {@link SortingNetwork} if the range is short enough,
+     * which beats insertion sort on random data, insertion sort otherwise.
+     */
+    static void smallSort(int[] array, int from, int to) {
+        smallSort(array, from, to, SortCounter.NONE);
+    }
+
+    private static void smallSort(int[] array, int from, int to, SortCounter counter) {
+        if (to - from <= SortingNetwork.MAX_LENGTH) {
+            SortingNetwork.sort(array, from, to, counter);
+        } else {
+            insertionSort(array, from, to, counter);
+        }
+    }
+
+    /**
+     * Recursion depth after which quicksort gives up and falls back to heapsort: 2*log(n).
+     */
+    static int depthLimit(int length) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(length));
     }
 
-    private static int[] doQuickSort(int[] array, int left, int right) {
-        int pivot = array[(left + right) / 2];
+    private static void doQuickSort(int[] array, int left, int right, int depth, int threshold,
+                                    SortCounter counter) {
+        if (right - left + 1 < threshold) {
+            smallSort(array, left, right + 1, counter);
+            return;
+        }
+        // too many bad partitions, finish off with the guaranteed O(n*log(n))
+        if (depth == 0) {
+            counter.heapSortFallback();
+            heapSort(array, left, right + 1, counter);
+            return;
+        }
+
+        long pivots = partition(array, left, right, counter);
+        int less = lowerPivot(pivots);
+        int great = upperPivot(pivots);
+
+        doQuickSort(array, left, less - 1, depth - 1, threshold, counter);
+        doQuickSort(array, great + 1, right, depth - 1, threshold, counter);
+
+        // the middle part only contains values equal to the pivots, if they are the same it's already sorted
+        if (same(array[less], array[great], counter)) return;
+
+        // lots of values equal to the pivots (few distinct values), move them out of the way first
+        if (great - less > (right - left) / 2) {
+            counter.equalKeysPartition();
+            long bounds = excludePivots(array, less, great, counter);
+            less = lowerPivot(bounds);
+            great = upperPivot(bounds);
+        }
+        doQuickSort(array, less + 1, great - 1, depth - 1, threshold, counter);
+    }
+
+    /**
+     * Dual-pivot partitioning of array[left, right] (Yaroslavskiy): two pivots are picked from a sample of five
+     * elements, then the range is split into values smaller than the lower pivot, values between the pivots and
+     * values bigger than the upper pivot. Both pivots end up at their final sorted position.
+     *
+     * @return final positions of both pivots, packed with {@link #pivots(int, int)}.
+     */
+    static long partition(int[] array, int left, int right) {
+        return partition(array, left, right, SortCounter.NONE);
+    }
+
+    private static long partition(int[] array, int left, int right, SortCounter counter) {
+        int length = right - left + 1;
+
+        if (length >= 8) {
+            // sort five evenly spaced elements and use the 2nd and 4th as pivots
+            int seventh = (length >> 3) + (length >> 6) + 1;
+            int e3 = (left + right) >>> 1;
+            int e2 = e3 - seventh;
+            int e1 = e2 - seventh;
+            int e4 = e3 + seventh;
+            int e5 = e4 + seventh;
+
+            sortSample(array, e1, e2, e3, e4, e5, counter);
+            swap(array, left, e2, counter);
+            swap(array, right, e4, counter);
+        } else {
+            compareExchange(array, left, right, counter);
+        }
+
+        int lowerPivot = array[left];
+        int upperPivot = array[right];
+
+        int less = left + 1;
+        int great = right - 1;
 
-        int i = left, j = right;
+        for (int k = less; k <= great; k++) {
+            int value = array[k];
+
+            if (less(value, lowerPivot, counter)) {
+                // move to the left part
+                swap(array, k, less++, counter);
+            } else if (less(upperPivot, value, counter)) {
+                // skip over values that are already in the right part
+                while (less(upperPivot, array[great], counter) && k < great) {
+                    great--;
+                }
+                swap(array, k, great--, counter);
 
-        while (i <= j) {
-            // find element that doesn't belong in the left partition
-            while (array[i] < pivot) {
-                i++;
+                // the swapped in value might belong in the left part
+                if (less(array[k], lowerPivot, counter)) {
+                    swap(array, k, less++, counter);
+                }
             }
-            // find element that doesn't belong in the right partition
-            while (array[j] > pivot) {
-                j--;
+        }
+
+        // move the pivots between the parts
+        less--;
+        great++;
+        swap(array, left, less, counter);
+        swap(array, right, great, counter);
+
+        return pivots(less, great);
+    }
+
+    /**
+     * Moves the values equal to the pivots at array[less] and array[great] next to them.
+     *
+     * @return new positions of the pivots (the last lower and first upper pivot value), packed with
+     * {@link #pivots(int, int)}.
+     */
+    private static long excludePivots(int[] array, int less, int great, SortCounter counter) {
+        int lowerPivot = array[less];
+        int upperPivot = array[great];
+
+        int lower = less + 1;
+        int upper = great - 1;
+
+        while (lower <= upper && same(array[lower], lowerPivot, counter)) {
+            lower++;
+        }
+        while (upper >= lower && same(array[upper], upperPivot, counter)) {
+            upper--;
+        }
+
+        for (int k = lower; k <= upper; k++) {
+            int value = array[k];
+
+            if (same(value, lowerPivot, counter)) {
+                swap(array, k, lower++, counter);
+            } else if (same(value, upperPivot, counter)) {
+                while (same(array[upper], upperPivot, counter) && k < upper) {
+                    upper--;
+                }
+                swap(array, k, upper--, counter);
+
+                if (same(array[k], lowerPivot, counter)) {
+                    swap(array, k, lower++, counter);
+                }
             }
-            // swap elements if it's not the same element
-            if (i <= j) {
-                // swap the values
-                int temp = array[i];
-                array[i] = array[j];
-                array[j] = temp;
+        }
+        return pivots(lower - 1, upper + 1);
+    }
 
-                // advance the partition
-                i++;
-                j--;
+    /**
+     * Packs two pivot positions into one long, so partitioning doesn't need to allocate for its result.
+     */
+    static long pivots(int lower, int upper) {
+        return ((long) lower << 32) | (upper & 0xFFFFFFFFL);
+    }
+
+    static int lowerPivot(long pivots) {
+        return (int) (pivots >>> 32);
+    }
+
+    static int upperPivot(long pivots) {
+        return (int) pivots;
+    }
+
+    /**
+     * Sorting network for the five sample elements (9 compare-exchanges).
+     */
+    private static void sortSample(int[] array, int e1, int e2, int e3, int e4, int e5, SortCounter counter) {
+        compareExchange(array, e1, e2, counter);
+        compareExchange(array, e4, e5, counter);
+        compareExchange(array, e3, e5, counter);
+        compareExchange(array, e3, e4, counter);
+        compareExchange(array, e1, e4, counter);
+        compareExchange(array, e1, e3, counter);
+        compareExchange(array, e2, e5, counter);
+        compareExchange(array, e2, e4, counter);
+        compareExchange(array, e2, e3, counter);
+    }
+
+    private static void compareExchange(int[] array, int i, int j, SortCounter counter) {
+        if (less(array[j], array[i], counter)) {
+            swap(array, i, j, counter);
+        }
+    }
+
+    private static void swap(int[] array, int i, int j, SortCounter counter) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+        counter.swap();
+        counter.write(2);
+    }
+
+    private static boolean less(int value, int otherValue, SortCounter counter) {
+        counter.compare();
+        return value < otherValue;
+    }
+
+    private static boolean same(int value, int otherValue, SortCounter counter) {
+        counter.compare();
+        return value == otherValue;
+    }
+
+    /**
+     * In-place heapsort of array[from, to), quicksort's guaranteed O(n*log(n)) fallback: the range itself is turned
+     * into a max heap (heap index 1 at array[from]) and the max is repeatedly swapped to the end.
+     */
+    static void heapSort(int[] array, int from, int to, SortCounter counter) {
+        int offset = from - 1;
+        int size = to - from;
+
+        for (int i = size / 2; i > 0; i--) {
+            siftDown(array, offset, i, size, counter);
+        }
+        for (int i = size; i > 1; i--) {
+            swap(array, from, offset + i, counter);
+            siftDown(array, offset, 1, i - 1, counter);
+        }
+    }
+
+    /**
+     * Sifts heap index down the max heap of the given size, where heap index i is stored at heap[offset + i].
+     */
+    private static void siftDown(int[] heap, int offset, int index, int size, SortCounter counter) {
+        while (true) {
+            int maxIndex = index;
+            int leftIndex = 2 * index;
+            int rightIndex = 2 * index + 1;
+
+            if (leftIndex <= size && less(heap[offset + maxIndex], heap[offset + leftIndex], counter)) {
+                maxIndex = leftIndex;
+            }
+            if (rightIndex <= size && less(heap[offset + maxIndex], heap[offset + rightIndex], counter)) {
+                maxIndex = rightIndex;
+            }
+
+            if (index == maxIndex) return;
+
+            swap(heap, offset + index, offset + maxIndex, counter);
+            index = maxIndex;
+        }
+    }
+
+    /**
+     * Parallel version of mergesort on top of the fork/join framework: halves are sorted in separate tasks and
+     * merged back, with large merges also split into independent tasks so that the top levels don't run serially.
+     * Uses the common pool and {@link #PARALLEL_CUTOFF}.
+     */
+    static int[] parallelMergeSort(int[] array) {
+        return parallelMergeSort(array, PARALLEL_CUTOFF, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parallel mergesort with a configurable sequential cutoff and pool. One scratch buffer of n elements is
+     * allocated for the whole sort.
+     * <p>
+     * Work: O(n*log(n)).
+     * Span: O(log(n)^3) with parallel merging.
+     */
+    static int[] parallelMergeSort(int[] array, int cutoff, ForkJoinPool pool) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("Cutoff must be positive: " + cutoff);
+        }
+        if (array.length <= 1) return array;
+
+        int[] buffer = new int[array.length];
+        pool.invoke(new MergeSortTask(array, buffer, 0, array.length, cutoff));
+        return array;
+    }
+
+    /**
+     * Merges source[firstFrom, firstTo) and source[secondFrom, secondTo) into target starting at targetFrom.
+     * Equal elements are taken from the first range, so the merge is stable.
+     */
+    private static void merge(int[] source, int firstFrom, int firstTo, int secondFrom, int secondTo,
+                              int[] target, int targetFrom, SortCounter counter) {
+        int firstIndex = firstFrom;
+        int secondIndex = secondFrom;
+        int targetIndex = targetFrom;
+
+        while (firstIndex < firstTo && secondIndex < secondTo) {
+            if (less(source[secondIndex], source[firstIndex], counter)) {
+                target[targetIndex++] = source[secondIndex++];
+            } else {
+                target[targetIndex++] = source[firstIndex++];
+            }
+        }
+
+        // copy remaining elements into the target array
+        System.arraycopy(source, firstIndex, target, targetIndex, firstTo - firstIndex);
+        targetIndex += firstTo - firstIndex;
+        System.arraycopy(source, secondIndex, target, targetIndex, secondTo - secondIndex);
+        counter.write(firstTo - firstFrom + secondTo - secondFrom);
+    }
+
+    /**
+     * First index in array[from, to) holding a value greater than (or, if inclusive, greater or equal to) the key.
+     */
+    private static int bound(int[] array, int from, int to, int key, boolean inclusive) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+
+            if (array[middle] < key || (!inclusive && array[middle] == key)) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    private static class MergeSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] array;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final int cutoff;
+
+        private MergeSortTask(int[] array, int[] buffer, int from, int to, int cutoff) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= cutoff) {
+                mergeSort(array, buffer, from, to, SortCounter.NONE);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new MergeSortTask(array, buffer, from, middle, cutoff),
+                    new MergeSortTask(array, buffer, middle, to, cutoff));
+
+            if (array[middle - 1] <= array[middle]) return;
+
+            // copy both sorted halves out and merge them back in parallel
+            System.arraycopy(array, from, buffer, from, to - from);
+            new MergeTask(buffer, from, middle, middle, to, array, from, cutoff).compute();
+        }
+    }
+
+    /**
+     * Splits a merge in two by taking the middle of the larger run and binary searching its position in the smaller
+     * one, both sub-merges then write to disjoint parts of the target and can run in parallel.
+     */
+    private static class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] source;
+        private final int firstFrom;
+        private final int firstTo;
+        private final int secondFrom;
+        private final int secondTo;
+        private final int[] target;
+        private final int targetFrom;
+        private final int cutoff;
+
+        private MergeTask(int[] source, int firstFrom, int firstTo, int secondFrom, int secondTo,
+                          int[] target, int targetFrom, int cutoff) {
+            this.source = source;
+            this.firstFrom = firstFrom;
+            this.firstTo = firstTo;
+            this.secondFrom = secondFrom;
+            this.secondTo = secondTo;
+            this.target = target;
+            this.targetFrom = targetFrom;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            int firstLength = firstTo - firstFrom;
+            int secondLength = secondTo - secondFrom;
+
+            // two elements can't always be split any further, so always merge them directly
+            if (firstLength + secondLength <= Math.max(cutoff, 2)) {
+                merge(source, firstFrom, firstTo, secondFrom, secondTo, target, targetFrom, SortCounter.NONE);
+                return;
+            }
+
+            int firstSplit;
+            int secondSplit;
+
+            // split the larger run in half, equal keys stay on the side they came from to keep it stable
+            if (firstLength >= secondLength) {
+                firstSplit = (firstFrom + firstTo) >>> 1;
+                secondSplit = bound(source, secondFrom, secondTo, source[firstSplit], true);
+            } else {
+                secondSplit = (secondFrom + secondTo) >>> 1;
+                firstSplit = bound(source, firstFrom, firstTo, source[secondSplit], false);
             }
+            int targetSplit = targetFrom + (firstSplit - firstFrom) + (secondSplit - secondFrom);
+
+            invokeAll(new MergeTask(source, firstFrom, firstSplit, secondFrom, secondSplit, target, targetFrom, cutoff),
+                    new MergeTask(source, firstSplit, firstTo, secondSplit, secondTo, target, targetSplit, cutoff));
+        }
+    }
+
+    /**
+     * Parallel version of quicksort on top of the fork/join framework: after each partitioning step both partitions
+     * are sorted in separate tasks. Uses the common pool and {@link #PARALLEL_CUTOFF}.
+     */
+    static int[] parallelQuickSort(int[] array) {
+        return parallelQuickSort(array, PARALLEL_CUTOFF, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parallel quicksort with a configurable sequential cutoff and pool, partitions at or below the cutoff are
+     * sorted with {@link #quickSort(int[])}. In-place, no extra memory besides the tasks.
+     * <p>
+     * Work: same as quicksort.
+     * Span: O(n) since the top-level partitioning step is still sequential.
+     * Worst case: O(n*log(n)) with the same heapsort fallback.
+     */
+    static int[] parallelQuickSort(int[] array, int cutoff, ForkJoinPool pool) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("Cutoff must be positive: " + cutoff);
+        }
+        if (array.length <= 1) return array;
+
+        pool.invoke(new QuickSortTask(array, 0, array.length - 1, depthLimit(array.length), cutoff));
+        return array;
+    }
+
+    private static class QuickSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] array;
+        private final int left;
+        private final int right;
+        private final int depth;
+        private final int cutoff;
+
+        private QuickSortTask(int[] array, int left, int right, int depth, int cutoff) {
+            this.array = array;
+            this.left = left;
+            this.right = right;
+            this.depth = depth;
+            this.cutoff = cutoff;
         }
 
-        if (left < j) {
-            array = doQuickSort(array, left, j);
+        @Override
+        protected void compute() {
+            if (right - left < cutoff || depth == 0) {
+                doQuickSort(array, left, right, depth, INSERTION_SORT_THRESHOLD, SortCounter.NONE);
+                return;
+            }
+
+            // same partitioning step as doQuickSort, just with the parts sorted in parallel
+            long pivots = partition(array, left, right);
+            int less = lowerPivot(pivots);
+            int great = upperPivot(pivots);
+
+            if (array[less] == array[great]) {
+                invokeAll(new QuickSortTask(array, left, less - 1, depth - 1, cutoff),
+                        new QuickSortTask(array, great + 1, right, depth - 1, cutoff));
+                return;
+            }
+            if (great - less > (right - left) / 2) {
+                long bounds = excludePivots(array, less, great, SortCounter.NONE);
+                less = lowerPivot(bounds);
+                great = upperPivot(bounds);
+            }
+            invokeAll(new QuickSortTask(array, left, less - 1, depth - 1, cutoff),
+                    new QuickSortTask(array, less + 1, great - 1, depth - 1, cutoff),
+                    new QuickSortTask(array, great + 1, right, depth - 1, cutoff));
         }
-        if (i < right) {
-            array = doQuickSort(array, i, right);
+    }
+
+    /**
+     * LSD (least significant digit) radix sort, using bytes as digits. Not a comparison sort, so it isn't bound
+     * by O(n*log(n)): it makes one counting pass and at most one scatter pass per byte. The sign bit of the most
+     * significant byte is flipped, so negative values end up in front. Stable.
+     * <p>
+     * Passes where all the elements have the same byte (i.e. the high bytes of small values) are skipped.
+     * <p>
+     * Best case: O(n) with a single counting pass if all the elements are equal.
+     * Average case: O(w*n), where w = 4 bytes.
+     * Worst case: O(w*n).
+     */
+    static int[] radixSort(int[] array) {
+        return radixSort(array, new int[array.length]);
+    }
+
+    static int[] radixSort(int[] array, SortCounter counter) {
+        counter.write(radixSort(array, new int[array.length], 0, array.length, Integer.BYTES));
+        return array;
+    }
+
+    /**
+     * Radix sort using a caller-supplied buffer for the scatter passes.
+     *
+     * @param buffer scratch space, at least as long as the array.
+     */
+    static int[] radixSort(int[] array, int[] buffer) {
+        if (buffer.length < array.length) {
+            throw new IllegalArgumentException("Buffer is smaller than the array: " + buffer.length);
         }
+        radixSort(array, buffer, 0, array.length, Integer.BYTES);
         return array;
     }
 
+    /**
+     * Radix sort of array[from, to), using buffer[from, to) as scratch space.
+     */
+    static void radixSort(int[] array, int[] buffer, int from, int to) {
+        radixSort(array, buffer, from, to, Integer.BYTES);
+    }
+
+    /**
+     * Sorts array[from, to) by its lowest bytes only, using buffer[from, to) as scratch space.
+     *
+     * @return number of elements written, so that the callers can count them.
+     */
+    private static long radixSort(int[] array, int[] buffer, int from, int to, int bytes) {
+        int length = to - from;
+        if (length <= 1) return 0;
+
+        // count all the digits in one go
+        int[] counts = new int[bytes * 256];
+        for (int i = from; i < to; i++) {
+            int value = array[i];
+            for (int digit = 0; digit < bytes; digit++) {
+                counts[digit * 256 + intDigit(value, digit)]++;
+            }
+        }
+
+        int[] source = array;
+        int[] target = buffer;
+        long written = 0;
+
+        for (int digit = 0; digit < bytes; digit++) {
+            int offset = digit * 256;
+
+            // every element has the same byte, this pass wouldn't move anything
+            if (counts[offset + intDigit(source[from], digit)] == length) continue;
+
+            // turn the counts into starting positions
+            int position = from;
+            for (int i = offset; i < offset + 256; i++) {
+                int count = counts[i];
+                counts[i] = position;
+                position += count;
+            }
+
+            for (int i = from; i < to; i++) {
+                int value = source[i];
+                target[counts[offset + intDigit(value, digit)]++] = value;
+            }
+            written += length;
+
+            int[] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        // odd number of passes leaves the result in the buffer
+        if (source != array) {
+            System.arraycopy(source, from, array, from, length);
+            written += length;
+        }
+        return written;
+    }
+
+    static int intDigit(int value, int digit) {
+        int result = (value >>> (digit * 8)) & 0xFF;
+        // flip the sign bit of the most significant byte
+        return digit == Integer.BYTES - 1 ? result ^ 0x80 : result;
+    }
+
+    /**
+     * LSD radix sort for longs, same as {@link #radixSort(int[])} with w = 8 bytes.
+     */
+    static long[] radixSort(long[] array) {
+        return radixSort(array, new long[array.length]);
+    }
+
+    /**
+     * Radix sort for longs using a caller-supplied buffer for the scatter passes.
+     *
+     * @param buffer scratch space, at least as long as the array.
+     */
+    static long[] radixSort(long[] array, long[] buffer) {
+        if (buffer.length < array.length) {
+            throw new IllegalArgumentException("Buffer is smaller than the array: " + buffer.length);
+        }
+        radixSort(array, buffer, 0, array.length, Long.BYTES);
+        return array;
+    }
+
+    private static void radixSort(long[] array, long[] buffer, int from, int to, int bytes) {
+        int length = to - from;
+        if (length <= 1) return;
+
+        int[] counts = new int[bytes * 256];
+        for (int i = from; i < to; i++) {
+            long value = array[i];
+            for (int digit = 0; digit < bytes; digit++) {
+                counts[digit * 256 + longDigit(value, digit)]++;
+            }
+        }
+
+        long[] source = array;
+        long[] target = buffer;
+
+        for (int digit = 0; digit < bytes; digit++) {
+            int offset = digit * 256;
+
+            if (counts[offset + longDigit(source[from], digit)] == length) continue;
+
+            int position = from;
+            for (int i = offset; i < offset + 256; i++) {
+                int count = counts[i];
+                counts[i] = position;
+                position += count;
+            }
+
+            for (int i = from; i < to; i++) {
+                long value = source[i];
+                target[counts[offset + longDigit(value, digit)]++] = value;
+            }
+
+            long[] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, from, array, from, length);
+        }
+    }
+
+    private static int longDigit(long value, int digit) {
+        int result = (int) (value >>> (digit * 8)) & 0xFF;
+        return digit == Long.BYTES - 1 ? result ^ 0x80 : result;
+    }
+
+    /**
+     * Parallel sample sort on the common pool, see {@link #parallelSampleSort(int[], ForkJoinPool)}.
+     */
+    static int[] parallelSampleSort(int[] array) {
+        return parallelSampleSort(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parallel sample sort: a sorted random sample picks splitters that cut the value range into buckets of about
+     * the same size, every block of the array is then scattered into the buckets and the buckets are sorted
+     * independently. Unlike the divide-and-conquer sorts, no step runs on a single thread, so it keeps scaling on
+     * machines with many cores. Needs a buffer of n elements.
+     * <p>
+     * If the sample has duplicates, equal neighbouring splitters are merged and every splitter gets a bucket of its
+     * own for the values equal to it, which is already sorted. Otherwise, with few distinct values, most of the
+     * array would land in one bucket and be sorted by a single thread.
+     * <p>
+     * Work: O(n*log(n)).
+     * Span: O(n/p*log(n)) for p threads, if the sample is representative.
+     */
+    static int[] parallelSampleSort(int[] array, ForkJoinPool pool) {
+        int length = array.length;
+        if (length <= PARALLEL_CUTOFF) {
+            return quickSort(array);
+        }
+
+        int threads = pool.getParallelism();
+        int blocks = Math.min(threads * 4, length / PARALLEL_CUTOFF);
+
+        // every SAMPLE_RATE-th element of a pseudo-random sample ends up as a splitter
+        int[] sample = new int[blocks * SAMPLE_RATE];
+        long seed = length;
+        for (int i = 0; i < sample.length; i++) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            sample[i] = array[(int) ((seed >>> 33) % length)];
+        }
+        quickSort(sample);
+
+        int[] candidates = new int[blocks - 1];
+        int distinct = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            int splitter = sample[(i + 1) * SAMPLE_RATE];
+            if (distinct == 0 || candidates[distinct - 1] != splitter) {
+                candidates[distinct++] = splitter;
+            }
+        }
+        int[] splitters = Arrays.copyOf(candidates, distinct);
+        // the odd buckets hold the values equal to a splitter
+        boolean equalBuckets = distinct < candidates.length;
+        int buckets = equalBuckets ? 2 * distinct + 1 : distinct + 1;
+
+        // count the values of each block per bucket
+        int blockSize = (length + blocks - 1) / blocks;
+        int[][] counts = new int[blocks][buckets];
+
+        parallelFor(pool, blocks, block -> {
+            int[] blockCounts = counts[block];
+            int to = Math.min(length, (block + 1) * blockSize);
+
+            for (int i = block * blockSize; i < to; i++) {
+                blockCounts[bucket(splitters, array[i], equalBuckets)]++;
+            }
+        });
+
+        // turn the counts into positions: bucket by bucket, and block by block within the bucket
+        int[] bucketStarts = new int[buckets + 1];
+        int position = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            bucketStarts[bucket] = position;
+            for (int block = 0; block < blocks; block++) {
+                int count = counts[block][bucket];
+                counts[block][bucket] = position;
+                position += count;
+            }
+        }
+        bucketStarts[buckets] = length;
+
+        int[] buffer = new int[length];
+
+        parallelFor(pool, blocks, block -> {
+            int[] positions = counts[block];
+            int to = Math.min(length, (block + 1) * blockSize);
+
+            for (int i = block * blockSize; i < to; i++) {
+                int value = array[i];
+                buffer[positions[bucket(splitters, value, equalBuckets)]++] = value;
+            }
+        });
+
+        // sort the buckets and move them back
+        parallelFor(pool, buckets, bucket -> {
+            int from = bucketStarts[bucket];
+            int to = bucketStarts[bucket + 1];
+
+            if (!equalBuckets || bucket % 2 == 0) {
+                doQuickSort(buffer, from, to - 1, depthLimit(to - from), INSERTION_SORT_THRESHOLD, SortCounter.NONE);
+            }
+            System.arraycopy(buffer, from, array, from, to - from);
+        });
+        return array;
+    }
+
+    /**
+     * Number of sampled elements per bucket, more make the buckets more even.
+     */
+    private static final int SAMPLE_RATE = 64;
+
+    /**
+     * Bucket of the value: the number of splitters smaller or equal to it. With equal buckets, bucket 2i + 1 holds
+     * the values equal to splitter i instead, and bucket 2i the ones between splitters i - 1 and i.
+     */
+    private static int bucket(int[] splitters, int value, boolean equalBuckets) {
+        int bucket = bound(splitters, 0, splitters.length, value, false);
+        if (!equalBuckets) {
+            return bucket;
+        }
+        return bucket > 0 && splitters[bucket - 1] == value ? 2 * bucket - 1 : 2 * bucket;
+    }
+
+    /**
+     * Parallel MSD radix sort on the common pool, see {@link #parallelRadixSort(int[], ForkJoinPool)}.
+     */
+    static int[] parallelRadixSort(int[] array) {
+        return parallelRadixSort(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parallel MSD (most significant digit) radix sort: each block of the array counts its own histogram of the
+     * top byte, a prefix sum over all the histograms gives every block its own write positions for the scatter,
+     * so the blocks can scatter at the same time without synchronizing. The 256 buckets are then sorted
+     * independently by their lower three bytes with {@link #radixSort(int[])}.
+     * <p>
+     * Work: O(w*n), where w = 4 bytes.
+     * Span: O(w*n/p) for p threads, if the top bytes are evenly distributed.
+     */
+    static int[] parallelRadixSort(int[] array, ForkJoinPool pool) {
+        return parallelRadixSort(array, pool, SortCounter.NONE);
+    }
+
+    /**
+     * Same as {@link #parallelRadixSort(int[], ForkJoinPool)}, reporting to the counter from the calling thread
+     * once the tasks are done.
+     */
+    static int[] parallelRadixSort(int[] array, ForkJoinPool pool, SortCounter counter) {
+        int length = array.length;
+        if (length <= PARALLEL_CUTOFF) {
+            return radixSort(array, counter);
+        }
+
+        int blocks = Math.min(pool.getParallelism() * 4, length / PARALLEL_CUTOFF);
+        int blockSize = (length + blocks - 1) / blocks;
+        int topDigit = Integer.BYTES - 1;
+
+        int[][] counts = new int[blocks][256];
+
+        parallelFor(pool, blocks, block -> {
+            int[] blockCounts = counts[block];
+            int to = Math.min(length, (block + 1) * blockSize);
+
+            for (int i = block * blockSize; i < to; i++) {
+                blockCounts[intDigit(array[i], topDigit)]++;
+            }
+        });
+
+        int[] bucketStarts = new int[257];
+        int position = 0;
+        for (int bucket = 0; bucket < 256; bucket++) {
+            bucketStarts[bucket] = position;
+            for (int block = 0; block < blocks; block++) {
+                int count = counts[block][bucket];
+                counts[block][bucket] = position;
+                position += count;
+            }
+        }
+        bucketStarts[256] = length;
+
+        int[] buffer = new int[length];
+
+        parallelFor(pool, blocks, block -> {
+            int[] positions = counts[block];
+            int to = Math.min(length, (block + 1) * blockSize);
+
+            for (int i = block * blockSize; i < to; i++) {
+                int value = array[i];
+                buffer[positions[intDigit(value, topDigit)]++] = value;
+            }
+        });
+        counter.write(length);
+
+        // the buckets already have the right top byte, sort the rest and move them back
+        long[] written = new long[256];
+        parallelFor(pool, 256, bucket -> {
+            int from = bucketStarts[bucket];
+            int to = bucketStarts[bucket + 1];
+
+            written[bucket] = radixSort(buffer, array, from, to, topDigit) + (to - from);
+            System.arraycopy(buffer, from, array, from, to - from);
+        });
+        for (long bucketWritten : written) {
+            counter.write(bucketWritten);
+        }
+        return array;
+    }
+
+    /**
+     * Runs the body for every index from 0 to count in parallel, and waits for all of them to finish.
+     */
+    private static void parallelFor(ForkJoinPool pool, int count, IntConsumer body) {
+        pool.invoke(new ForEachTask(0, count, body));
+    }
+
+    private static class ForEachTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        private ForEachTask(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ForEachTask(from, middle, body), new ForEachTask(middle, to, body));
+        }
+    }
+
+    /**
+     * Sorts objects by int keys held in a parallel array, without boxing the keys or going through a comparator.
+     * Both arrays are reordered: keys[i] is the key of items[i] before and after the sort. Uses the same radix
+     * passes as {@link #radixSort(int[])}, so it's stable and O(n).
+     */
+    static <T> T[] sortByKey(T[] items, int[] keys) {
+        if (items.length != keys.length) {
+            throw new IllegalArgumentException("Keys and items differ in length: " + keys.length + ", " + items.length);
+        }
+        int length = keys.length;
+        if (length <= 1) return items;
+
+        int[] counts = new int[Integer.BYTES * 256];
+        for (int key : keys) {
+            for (int digit = 0; digit < Integer.BYTES; digit++) {
+                counts[digit * 256 + intDigit(key, digit)]++;
+            }
+        }
+
+        int[] sourceKeys = keys;
+        int[] targetKeys = new int[length];
+        Object[] sourceItems = items;
+        Object[] targetItems = new Object[length];
+
+        for (int digit = 0; digit < Integer.BYTES; digit++) {
+            int offset = digit * 256;
+
+            if (counts[offset + intDigit(sourceKeys[0], digit)] == length) continue;
+
+            int position = 0;
+            for (int i = offset; i < offset + 256; i++) {
+                int count = counts[i];
+                counts[i] = position;
+                position += count;
+            }
+
+            // move each item along with its key
+            for (int i = 0; i < length; i++) {
+                int target = counts[offset + intDigit(sourceKeys[i], digit)]++;
+                targetKeys[target] = sourceKeys[i];
+                targetItems[target] = sourceItems[i];
+            }
+
+            int[] tempKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = tempKeys;
+            Object[] tempItems = sourceItems;
+            sourceItems = targetItems;
+            targetItems = tempItems;
+        }
+
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, length);
+            System.arraycopy(sourceItems, 0, items, 0, length);
+        }
+        return items;
+    }
+
+    /**
+     * Sorts objects by an int key, extracted once per item into a primitive array.
+     */
+    static <T> T[] sortByIntKey(T[] items, ToIntFunction<? super T> key) {
+        int[] keys = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            keys[i] = key.applyAsInt(items[i]);
+        }
+        return sortByKey(items, keys);
+    }
+
+    /**
+     * Same as {@link #sortByKey(Object[], int[])} with long keys.
+     */
+    static <T> T[] sortByKey(T[] items, long[] keys) {
+        if (items.length != keys.length) {
+            throw new IllegalArgumentException("Keys and items differ in length: " + keys.length + ", " + items.length);
+        }
+        int length = keys.length;
+        if (length <= 1) return items;
+
+        int[] counts = new int[Long.BYTES * 256];
+        for (long key : keys) {
+            for (int digit = 0; digit < Long.BYTES; digit++) {
+                counts[digit * 256 + longDigit(key, digit)]++;
+            }
+        }
+
+        long[] sourceKeys = keys;
+        long[] targetKeys = new long[length];
+        Object[] sourceItems = items;
+        Object[] targetItems = new Object[length];
+
+        for (int digit = 0; digit < Long.BYTES; digit++) {
+            int offset = digit * 256;
+
+            if (counts[offset + longDigit(sourceKeys[0], digit)] == length) continue;
+
+            int position = 0;
+            for (int i = offset; i < offset + 256; i++) {
+                int count = counts[i];
+                counts[i] = position;
+                position += count;
+            }
+
+            for (int i = 0; i < length; i++) {
+                int target = counts[offset + longDigit(sourceKeys[i], digit)]++;
+                targetKeys[target] = sourceKeys[i];
+                targetItems[target] = sourceItems[i];
+            }
+
+            long[] tempKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = tempKeys;
+            Object[] tempItems = sourceItems;
+            sourceItems = targetItems;
+            targetItems = tempItems;
+        }
+
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, length);
+            System.arraycopy(sourceItems, 0, items, 0, length);
+        }
+        return items;
+    }
+
+    /**
+     * Sorts objects by a long key, extracted once per item into a primitive array.
+     */
+    static <T> T[] sortByLongKey(T[] items, ToLongFunction<? super T> key) {
+        long[] keys = new long[items.length];
+        for (int i = 0; i < items.length; i++) {
+            keys[i] = key.applyAsLong(items[i]);
+        }
+        return sortByKey(items, keys);
+    }
+
+    /**
+     * Stable argsort: returns the permutation that sorts the keys, i.e. keys[result[0]] is the smallest key, without
+     * touching the keys. Equal keys keep their original order, so sorting several columns by one key column is
+     * {@link #applyPermutation(int[], int[])} on each column.
+     * <p>
+     * Each index is packed with its key into one long, and the packed values are sorted by their key half with
+     * radix passes, which keep the index order for equal keys. No boxing and no comparator.
+     * O(w*n), where w = 4 bytes.
+     */
+    static int[] argSort(int[] keys) {
+        int length = keys.length;
+        long[] packed = new long[length];
+
+        for (int i = 0; i < length; i++) {
+            packed[i] = ((long) i << 32) | (keys[i] & 0xFFFFFFFFL);
+        }
+
+        int[] counts = new int[Integer.BYTES * 256];
+        for (int key : keys) {
+            for (int digit = 0; digit < Integer.BYTES; digit++) {
+                counts[digit * 256 + intDigit(key, digit)]++;
+            }
+        }
+
+        long[] source = packed;
+        long[] target = new long[length];
+
+        for (int digit = 0; digit < Integer.BYTES && length > 1; digit++) {
+            int offset = digit * 256;
+
+            if (counts[offset + intDigit((int) source[0], digit)] == length) continue;
+
+            int position = 0;
+            for (int i = offset; i < offset + 256; i++) {
+                int count = counts[i];
+                counts[i] = position;
+                position += count;
+            }
+
+            for (int i = 0; i < length; i++) {
+                long value = source[i];
+                target[counts[offset + intDigit((int) value, digit)]++] = value;
+            }
+
+            long[] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        int[] permutation = new int[length];
+        for (int i = 0; i < length; i++) {
+            permutation[i] = (int) (source[i] >>> 32);
+        }
+        return permutation;
+    }
+
+    /**
+     * Stable argsort for long keys, see {@link #argSort(int[])}. The indexes are carried along with a copy of the
+     * keys through the radix passes. O(w*n), where w = 8 bytes.
+     */
+    static int[] argSort(long[] keys) {
+        int length = keys.length;
+
+        int[] counts = new int[Long.BYTES * 256];
+        for (long key : keys) {
+            for (int digit = 0; digit < Long.BYTES; digit++) {
+                counts[digit * 256 + longDigit(key, digit)]++;
+            }
+        }
+
+        long[] sourceKeys = keys;
+        long[] targetKeys = new long[length];
+        int[] sourceIndexes = new int[length];
+        int[] targetIndexes = new int[length];
+
+        for (int i = 0; i < length; i++) {
+            sourceIndexes[i] = i;
+        }
+
+        for (int digit = 0; digit < Long.BYTES && length > 1; digit++) {
+            int offset = digit * 256;
+
+            if (counts[offset + longDigit(sourceKeys[0], digit)] == length) continue;
+
+            int position = 0;
+            for (int i = offset; i < offset + 256; i++) {
+                int count = counts[i];
+                counts[i] = position;
+                position += count;
+            }
+
+            for (int i = 0; i < length; i++) {
+                int target = counts[offset + longDigit(sourceKeys[i], digit)]++;
+                targetKeys[target] = sourceKeys[i];
+                targetIndexes[target] = sourceIndexes[i];
+            }
+
+            // the first pass moves into the copy, from then on the input keys are never written
+            long[] tempKeys = sourceKeys == keys ? new long[length] : sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = tempKeys;
+            int[] tempIndexes = sourceIndexes;
+            sourceIndexes = targetIndexes;
+            targetIndexes = tempIndexes;
+        }
+        return sourceIndexes;
+    }
+
+    /**
+     * Reorders the values in place so that values[i] becomes the old values[permutation[i]], i.e. applies the
+     * result of {@link #argSort(int[])} to a column. Follows the cycles of the permutation, remembering the visited
+     * positions in a bit set: the permutation is only read, so it can be shared by several columns, even from
+     * different threads. O(n) time, n bits of space.
+     *
+     * @throws IllegalArgumentException if permutation isn't a permutation of [0, n), the values are then left
+     *                                  partially reordered.
+     */
+    static int[] applyPermutation(int[] values, int[] permutation) {
+        checkPermutationLength(values.length, permutation);
+        BitSet visited = new BitSet(permutation.length);
+
+        for (int start = 0; start < permutation.length; start++) {
+            if (visited.get(start)) continue;
+
+            int first = values[start];
+            int current = start;
+
+            // pull each value of the cycle into its place
+            while (permutation[current] != start) {
+                int next = next(permutation, current, visited);
+                values[current] = values[next];
+                current = next;
+            }
+            values[current] = first;
+            visited.set(current);
+        }
+        return values;
+    }
+
+    /**
+     * Same as {@link #applyPermutation(int[], int[])} for longs.
+     */
+    static long[] applyPermutation(long[] values, int[] permutation) {
+        checkPermutationLength(values.length, permutation);
+        BitSet visited = new BitSet(permutation.length);
+
+        for (int start = 0; start < permutation.length; start++) {
+            if (visited.get(start)) continue;
+
+            long first = values[start];
+            int current = start;
+
+            while (permutation[current] != start) {
+                int next = next(permutation, current, visited);
+                values[current] = values[next];
+                current = next;
+            }
+            values[current] = first;
+            visited.set(current);
+        }
+        return values;
+    }
+
+    /**
+     * Same as {@link #applyPermutation(int[], int[])} for doubles.
+     */
+    static double[] applyPermutation(double[] values, int[] permutation) {
+        checkPermutationLength(values.length, permutation);
+        BitSet visited = new BitSet(permutation.length);
+
+        for (int start = 0; start < permutation.length; start++) {
+            if (visited.get(start)) continue;
+
+            double first = values[start];
+            int current = start;
+
+            while (permutation[current] != start) {
+                int next = next(permutation, current, visited);
+                values[current] = values[next];
+                current = next;
+            }
+            values[current] = first;
+            visited.set(current);
+        }
+        return values;
+    }
+
+    /**
+     * Same as {@link #applyPermutation(int[], int[])} for objects.
+     */
+    static <T> T[] applyPermutation(T[] values, int[] permutation) {
+        checkPermutationLength(values.length, permutation);
+        BitSet visited = new BitSet(permutation.length);
+
+        for (int start = 0; start < permutation.length; start++) {
+            if (visited.get(start)) continue;
+
+            T first = values[start];
+            int current = start;
+
+            while (permutation[current] != start) {
+                int next = next(permutation, current, visited);
+                values[current] = values[next];
+                current = next;
+            }
+            values[current] = first;
+            visited.set(current);
+        }
+        return values;
+    }
+
+    private static void checkPermutationLength(int length, int[] permutation) {
+        if (permutation.length != length) {
+            throw new IllegalArgumentException("Permutation and values differ in length: " + permutation.length
+                    + ", " + length);
+        }
+    }
+
+    /**
+     * Marks current as visited and returns the next position of its cycle, which must not have been visited: that
+     * would mean that two positions point to it, and the cycle would never get back to its start.
+     */
+    private static int next(int[] permutation, int current, BitSet visited) {
+        visited.set(current);
+        int next = permutation[current];
+
+        if (next < 0 || next >= permutation.length || visited.get(next)) {
+            throw new IllegalArgumentException("Not a permutation, " + current + " points to " + next);
+        }
+        return next;
+    }
+
     static int[] heapSort(int[] array) {
-        System.out.println(Arrays.toString(array));
-        int[] result = new MaxHeap(array).heapSort();
-        System.out.println(Arrays.toString(array));
-        return result;
+        return new MaxHeap(array).heapSort();
     }
 }
@@ -0,0 +1,85 @@
+package algorithms;
+
+/**
+ * Receives the work done by the int sorts of {@link Sort} and {@link SortingNetwork}: every comparison between two
+ * elements, every exchange of two elements, every element written to the array or to a scratch buffer, and the
+ * quicksort events that explain a slow sort.
+ * <p>
+ * {@link #NONE} ignores all of it, and is what the sorts report to unless the caller asks for the counts: the calls
+ * are empty, so the JIT inlines them away.
+ */
+class SortCounter {
+    static final SortCounter NONE = new SortCounter();
+
+    void compare() {}
+
+    void swap() {}
+
+    void write(long elements) {}
+
+    /**
+     * A quicksort range was finished with heapsort because the recursion got too deep.
+     */
+    void heapSortFallback() {}
+
+    /**
+     * A quicksort partition had to move the values equal to the pivots out of the way.
+     */
+    void equalKeysPartition() {}
+
+    /**
+     * Counts everything it receives. Not thread-safe: the parallel sorts only report to it from the calling thread.
+     */
+    static class Counting extends SortCounter {
+        private long comparisons;
+        private long swaps;
+        private long writes;
+        private long heapSortFallbacks;
+        private long equalKeysPartitions;
+
+        @Override
+        void compare() {
+            comparisons++;
+        }
+
+        @Override
+        void swap() {
+            swaps++;
+        }
+
+        @Override
+        void write(long elements) {
+            writes += elements;
+        }
+
+        @Override
+        void heapSortFallback() {
+            heapSortFallbacks++;
+        }
+
+        @Override
+        void equalKeysPartition() {
+            equalKeysPartitions++;
+        }
+
+        long getComparisons() {
+            return comparisons;
+        }
+
+        long getSwaps() {
+            return swaps;
+        }
+
+        long getWrites() {
+            return writes;
+        }
+
+        long getHeapSortFallbacks() {
+            return heapSortFallbacks;
+        }
+
+        long getEqualKeysPartitions() {
+            return equalKeysPartitions;
+        }
+    }
+}
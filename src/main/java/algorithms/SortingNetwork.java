@@ -0,0 +1,98 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Sorting networks for small arrays (up to {@link #MAX_LENGTH} elements): a fixed sequence of compare-exchanges
+ * that doesn't depend on the values, so there are no data-dependent branches to mispredict. Each compare-exchange
+ * is a min and a max, which the JIT compiles to conditional moves.
+ * <p>
+ * The networks are Batcher's odd-even mergesort for the next power of two. Shorter ranges are treated as if they
+ * were padded with +infinity, compare-exchanges with the padding would never move anything, so they are skipped.
+ * <p>
+ * Not stable, which makes no difference for primitive values.
+ * Always: O(n*log(n)^2) compare-exchanges.
+ */
+class SortingNetwork {
+    static final int MAX_LENGTH = 64;
+
+    /**
+     * Compare-exchange pairs (flattened, i before j) of the networks for 2, 4, ..., 64 elements.
+     */
+    private static final int[][] NETWORKS = new int[7][];
+
+    static {
+        for (int power = 1; power < NETWORKS.length; power++) {
+            NETWORKS[power] = oddEvenMergeSort(1 << power);
+        }
+    }
+
+    private SortingNetwork() {}
+
+    static int[] sort(int[] array) {
+        sort(array, 0, array.length);
+        return array;
+    }
+
+    /**
+     * Sorts array[from, to), which must not be longer than {@link #MAX_LENGTH}.
+     */
+    static void sort(int[] array, int from, int to) {
+        sort(array, from, to, SortCounter.NONE);
+    }
+
+    static void sort(int[] array, int from, int to, SortCounter counter) {
+        int length = to - from;
+        if (length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Range is too long for a sorting network: " + length);
+        }
+        if (length <= 1) return;
+
+        int[] network = NETWORKS[32 - Integer.numberOfLeadingZeros(length - 1)];
+
+        for (int k = 0; k < network.length; k += 2) {
+            int j = network[k + 1];
+
+            // the other side is padding
+            if (j >= length) continue;
+
+            int i = from + network[k];
+            j += from;
+
+            int a = array[i];
+            int b = array[j];
+            array[i] = Math.min(a, b);
+            array[j] = Math.max(a, b);
+
+            // both elements are written either way, but only out of order ones are exchanged
+            counter.compare();
+            if (a > b) {
+                counter.swap();
+            }
+            counter.write(2);
+        }
+    }
+
+    /**
+     * Generates the compare-exchanges of Batcher's odd-even mergesort for n = 2^k elements.
+     */
+    private static int[] oddEvenMergeSort(int n) {
+        int[] pairs = new int[2 * n * n];
+        int count = 0;
+
+        for (int p = 1; p < n; p <<= 1) {
+            for (int k = p; k >= 1; k >>= 1) {
+                for (int j = k % p; j <= n - 1 - k; j += 2 * k) {
+                    for (int i = 0; i <= Math.min(k - 1, n - j - k - 1); i++) {
+                        // only compare within the same merge
+                        if ((i + j) / (2 * p) == (i + j + k) / (2 * p)) {
+                            pairs[count++] = i + j;
+                            pairs[count++] = i + j + k;
+                        }
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(pairs, count);
+    }
+}
@@ -0,0 +1,383 @@
+package dataStructures.list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Single-linked list with a tail pointer, without node objects: the items and the links are stored in two parallel
+ * arrays, and a link is the int index of the next item's slot (NIL for none).
+ * <p>
+ * A node object costs a header, a reference to the item and one to the next node, and the nodes end up all over the
+ * heap, each of them one more object for the garbage collector to mark. Here a list is three objects however long
+ * it is, an item costs a slot in each array (4 bytes for the link), and the links are a flat int[] that the GC
+ * doesn't even need to scan.
+ * <p>
+ * Removed slots go on a free list (chained through the same next array) and are reused before the arrays grow, so
+ * the arrays never get bigger than the biggest size the list had. The arrays double when they're full: append and
+ * prepend are amortized O(1). {@link #compact()} moves the items back in list order, so that walking the list
+ * reads both arrays sequentially.
+ *
+ * @param <E> type of item that the list will contain.
+ */
+public class ArrayLinkedList<E> implements List<E> {
+    static final int DEFAULT_CAPACITY = 16;
+    private static final int NIL = -1;
+
+    private Object[] items;
+    private int[] next;
+
+    private int head = NIL;
+    private int tail = NIL;
+    // first slot of the free list
+    private int free = NIL;
+    // slots that have been used at least once, the ones after that are free without being on the free list
+    private int used;
+
+    private int size;
+    // number of structural modifications, for the fail-fast iterators
+    private int modCount;
+
+    @SafeVarargs
+    public ArrayLinkedList(E... items) {
+        this(Math.max(DEFAULT_CAPACITY, items.length));
+        Arrays.asList(items).forEach(this::append);
+    }
+
+    private ArrayLinkedList(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        this.items = new Object[capacity];
+        this.next = new int[capacity];
+    }
+
+    /**
+     * Empty list with room for capacity items before the arrays have to grow (a constructor would clash with a list
+     * of one Integer).
+     *
+     * @param capacity initial length of the arrays.
+     */
+    public static <E> ArrayLinkedList<E> withCapacity(int capacity) {
+        return new ArrayLinkedList<>(capacity);
+    }
+
+    /**
+     * Always constant-time because it's a precomputed value: O(1).
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Always constant-time because it depends on a precomputed value: O(1).
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Because we need to go through all the links before index: O(n).
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        // tail optimization
+        if (index == size - 1) {
+            return item(tail);
+        }
+        return item(slotAt(index));
+    }
+
+    @Override
+    public E getFromEnd(int index) {
+        int targetIndex = size - index;
+        return get(targetIndex); // will throw exception if index -> targetIndex is wrong
+    }
+
+    /**
+     * Amortized constant-time, the arrays might have to grow: O(1).
+     */
+    @Override
+    public void prepend(E item) {
+        int slot = allocate(item);
+        next[slot] = head;
+        head = slot;
+
+        if (tail == NIL) {
+            tail = slot;
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Amortized constant-time, the arrays might have to grow: O(1).
+     */
+    @Override
+    public void append(E item) {
+        int slot = allocate(item);
+        next[slot] = NIL;
+
+        if (tail != NIL) {
+            next[tail] = slot;
+        } else {
+            head = slot;
+        }
+        tail = slot;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Inserts the item before the one at index: O(n).
+     */
+    @Override
+    public void insert(int index, E item) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == 0) {
+            prepend(item);
+            return;
+        }
+
+        int previous = slotAt(index - 1);
+        int slot = allocate(item);
+        next[slot] = next[previous];
+        next[previous] = slot;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Because we need to go through all the links to find the one before the tail: O(n).
+     */
+    @Override
+    public E pop() {
+        if (tail == NIL) {
+            throw new IndexOutOfBoundsException();
+        }
+        return unlink(size == 1 ? NIL : slotAt(size - 2), tail);
+    }
+
+    /**
+     * Constant-time because we maintain the index of the head: O(1).
+     */
+    @Override
+    public E popFront() {
+        if (head == NIL) {
+            throw new IndexOutOfBoundsException();
+        }
+        return unlink(NIL, head);
+    }
+
+    @Override
+    public E getFirst() {
+        if (head == NIL) {
+            throw new IndexOutOfBoundsException();
+        }
+        return item(head);
+    }
+
+    @Override
+    public E getLast() {
+        if (tail == NIL) {
+            throw new IndexOutOfBoundsException();
+        }
+        return item(tail);
+    }
+
+    /**
+     * Because we need to go through all the links to find the item: O(n).
+     */
+    @Override
+    public void remove(E item) {
+        int previous = NIL;
+
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if (Objects.equals(items[slot], item)) {
+                unlink(previous, slot);
+                return;
+            }
+            previous = slot;
+        }
+    }
+
+    /**
+     * Because we need to go through all the links before index: O(n).
+     */
+    @Override
+    public void removeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        int previous = index == 0 ? NIL : slotAt(index - 1);
+        unlink(previous, previous == NIL ? head : next[previous]);
+    }
+
+    /**
+     * Because we need to go through all the links: O(n).
+     */
+    @Override
+    public int findIndex(E item) {
+        int index = 0;
+
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if (Objects.equals(items[slot], item)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Because we need to repoint all the links: O(n).
+     */
+    @Override
+    public void reverse() {
+        int reverseSlot = NIL;
+        int slot = head;
+
+        // iterate links in one direction and link in reverse direction
+        while (slot != NIL) {
+            int nextSlot = next[slot];
+            next[slot] = reverseSlot;
+            reverseSlot = slot;
+            slot = nextSlot;
+        }
+        tail = head;
+        head = reverseSlot;
+        modCount++;
+    }
+
+    /**
+     * Moves the items into the first size slots in list order and shrinks the arrays to fit, dropping the free list.
+     * Afterwards the links all point to the next slot, so a traversal is a sequential scan: O(n).
+     */
+    public void compact() {
+        int capacity = Math.max(1, size);
+        Object[] compactItems = new Object[capacity];
+        int[] compactNext = new int[capacity];
+
+        int index = 0;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            compactItems[index] = items[slot];
+            compactNext[index] = index + 1;
+            index++;
+        }
+
+        items = compactItems;
+        next = compactNext;
+        head = size > 0 ? 0 : NIL;
+        tail = size > 0 ? size - 1 : NIL;
+        if (size > 0) {
+            next[tail] = NIL;
+        }
+        free = NIL;
+        used = size;
+        modCount++;
+    }
+
+    /**
+     * Length of the arrays.
+     */
+    int capacity() {
+        return items.length;
+    }
+
+    /**
+     * Fail-fast iterator that follows the links: O(1) per item.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int nextSlot = head;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return nextSlot != NIL;
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (nextSlot == NIL) {
+                    throw new NoSuchElementException();
+                }
+                E item = item(nextSlot);
+                nextSlot = next[nextSlot];
+                return item;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private E item(int slot) {
+        return (E) items[slot];
+    }
+
+    private int slotAt(int index) {
+        int slot = head;
+        for (int i = 0; i < index; i++) {
+            slot = next[slot];
+        }
+        return slot;
+    }
+
+    /**
+     * Takes a slot from the free list, or the first one never used, growing the arrays if they're full.
+     */
+    private int allocate(E item) {
+        int slot;
+        if (free != NIL) {
+            slot = free;
+            free = next[slot];
+        } else {
+            if (used == items.length) {
+                int capacity = items.length * 2;
+                items = Arrays.copyOf(items, capacity);
+                next = Arrays.copyOf(next, capacity);
+            }
+            slot = used++;
+        }
+        items[slot] = item;
+        return slot;
+    }
+
+    /**
+     * Unlinks the slot that comes after previous (NIL for the head) and puts it on the free list.
+     */
+    private E unlink(int previous, int slot) {
+        E item = item(slot);
+
+        if (previous != NIL) {
+            next[previous] = next[slot];
+        } else {
+            head = next[slot];
+        }
+        // reset tail if needed
+        if (slot == tail) {
+            tail = previous;
+        }
+
+        // clear the item so that it can be collected
+        items[slot] = null;
+        next[slot] = free;
+        free = slot;
+
+        size--;
+        modCount++;
+        return item;
+    }
+}
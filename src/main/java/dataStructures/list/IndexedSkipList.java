@@ -0,0 +1,359 @@
+package dataStructures.list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Indexable skip list: a linked list with extra express links on a random subset of the nodes (half of them get a
+ * level 2 link, a quarter a level 3 one, and so on), where every link also stores its width, the number of positions
+ * it skips over.
+ * <p>
+ * To find position i, start at the top level of the head and follow each link as long as the widths added up don't
+ * go past i, then go down a level. That's O(log(n)) expected links instead of i, and it's the same walk to find the
+ * predecessors of a position for an insert or a removal, which then only have to fix O(log(n)) links and widths.
+ * <p>
+ * A link that points past the last node has the width it would have to a virtual node at index size, so that
+ * appending and inserting don't need a special case for the end of the list.
+ *
+ * @param <E> type of item that the list will contain.
+ */
+public class IndexedSkipList<E> implements List<E> {
+    private static final int MAX_LEVEL = 32;
+
+    private static class Node<E> {
+        private final E item;
+        private final Node<E>[] next;
+        private final int[] width;
+
+        @SuppressWarnings("unchecked")
+        private Node(E item, int level) {
+            this.item = item;
+            this.next = (Node<E>[]) new Node<?>[level];
+            this.width = new int[level];
+        }
+    }
+
+    // sentinel before the first node, at index -1, with all the levels
+    private final Node<E> head = new Node<>(null, MAX_LEVEL);
+    // number of levels in use
+    private int level = 1;
+    private int size;
+    // number of structural modifications, for the fail-fast iterators
+    private int modCount;
+
+    @SafeVarargs
+    public IndexedSkipList(E... items) {
+        build(items);
+    }
+
+    /**
+     * Always constant-time because it's a precomputed value: O(1).
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Always constant-time because it depends on a precomputed value: O(1).
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Skipping over the positions before index level by level: O(log(n)) expected.
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        Node<E> node = head;
+        int position = -1;
+        for (int l = level - 1; l >= 0; l--) {
+            while (node.next[l] != null && position + node.width[l] <= index) {
+                position += node.width[l];
+                node = node.next[l];
+            }
+        }
+        return node.item;
+    }
+
+    @Override
+    public E getFromEnd(int index) {
+        int targetIndex = size - index;
+        return get(targetIndex); // will throw exception if index -> targetIndex is wrong
+    }
+
+    /**
+     * O(log(n)) expected, the head has to update its links.
+     */
+    @Override
+    public void prepend(E item) {
+        add(0, item);
+    }
+
+    /**
+     * O(log(n)) expected.
+     */
+    @Override
+    public void append(E item) {
+        add(size, item);
+    }
+
+    /**
+     * Inserts the item before the one at index: O(log(n)) expected.
+     */
+    @Override
+    public void insert(int index, E item) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        add(index, item);
+    }
+
+    /**
+     * O(log(n)) expected.
+     */
+    @Override
+    public E pop() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        return delete(size - 1);
+    }
+
+    /**
+     * O(log(n)) expected, the head has to update its links.
+     */
+    @Override
+    public E popFront() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        return delete(0);
+    }
+
+    /**
+     * Constant-time because the head links to the first node: O(1).
+     */
+    @Override
+    public E getFirst() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        return head.next[0].item;
+    }
+
+    /**
+     * O(log(n)) expected.
+     */
+    @Override
+    public E getLast() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        return get(size - 1);
+    }
+
+    /**
+     * Because we need to go through all the nodes to find the item: O(n).
+     */
+    @Override
+    public void remove(E item) {
+        int index = findIndex(item);
+        if (index >= 0) {
+            delete(index);
+        }
+    }
+
+    /**
+     * O(log(n)) expected.
+     */
+    @Override
+    public void removeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        delete(index);
+    }
+
+    /**
+     * Because we need to go through all the nodes (on the bottom level): O(n).
+     */
+    @Override
+    public int findIndex(E item) {
+        int index = 0;
+
+        for (Node<E> node = head.next[0]; node != null; node = node.next[0]) {
+            if (Objects.equals(node.item, item)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Rebuilds the list from its items in reverse: O(n).
+     */
+    @Override
+    public void reverse() {
+        Object[] items = new Object[size];
+        int index = size;
+
+        for (Node<E> node = head.next[0]; node != null; node = node.next[0]) {
+            items[--index] = node.item;
+        }
+        build(items);
+        modCount++;
+    }
+
+    /**
+     * Fail-fast iterator on the bottom level: O(1) per item.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Node<E> nextNode = head.next[0];
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return nextNode != null;
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (nextNode == null) {
+                    throw new NoSuchElementException();
+                }
+                E item = nextNode.item;
+                nextNode = nextNode.next[0];
+                return item;
+            }
+        };
+    }
+
+    /**
+     * Inserts the item at index (size to append).
+     */
+    private void add(int index, E item) {
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            // the new levels of the head point past the end for now
+            for (int l = level; l < nodeLevel; l++) {
+                head.next[l] = null;
+                head.width[l] = size + 1;
+            }
+            level = nodeLevel;
+        }
+
+        Node<E> node = new Node<>(item, nodeLevel);
+        Node<E> predecessor = head;
+        int position = -1;
+
+        for (int l = level - 1; l >= 0; l--) {
+            // last node before index on this level
+            while (predecessor.next[l] != null && position + predecessor.width[l] < index) {
+                position += predecessor.width[l];
+                predecessor = predecessor.next[l];
+            }
+
+            if (l < nodeLevel) {
+                // split the link: predecessor -> node -> old successor, which moves one position further
+                node.next[l] = predecessor.next[l];
+                node.width[l] = position + predecessor.width[l] + 1 - index;
+                predecessor.next[l] = node;
+                predecessor.width[l] = index - position;
+            } else {
+                // the link goes over the new node
+                predecessor.width[l]++;
+            }
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes the node at index and returns its item.
+     */
+    private E delete(int index) {
+        Node<E> predecessor = head;
+        int position = -1;
+        Node<E> removed = null;
+
+        for (int l = level - 1; l >= 0; l--) {
+            while (predecessor.next[l] != null && position + predecessor.width[l] < index) {
+                position += predecessor.width[l];
+                predecessor = predecessor.next[l];
+            }
+
+            Node<E> next = predecessor.next[l];
+            if (next != null && position + predecessor.width[l] == index) {
+                // bypass the removed node
+                removed = next;
+                predecessor.width[l] += next.width[l] - 1;
+                predecessor.next[l] = next.next[l];
+            } else {
+                predecessor.width[l]--;
+            }
+        }
+
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        modCount++;
+        return removed.item;
+    }
+
+    /**
+     * Builds the list from the items in O(n), linking every new node after the last node of each of its levels.
+     */
+    @SuppressWarnings("unchecked")
+    private void build(Object[] items) {
+        Arrays.fill(head.next, null);
+        level = 1;
+        size = items.length;
+
+        Node<E>[] last = (Node<E>[]) new Node<?>[MAX_LEVEL];
+        int[] lastPosition = new int[MAX_LEVEL];
+        Arrays.fill(last, head);
+        Arrays.fill(lastPosition, -1);
+
+        for (int i = 0; i < items.length; i++) {
+            Node<E> node = new Node<>((E) items[i], randomLevel());
+            level = Math.max(level, node.next.length);
+
+            for (int l = 0; l < node.next.length; l++) {
+                last[l].next[l] = node;
+                last[l].width[l] = i - lastPosition[l];
+                last[l] = node;
+                lastPosition[l] = i;
+            }
+        }
+        // the last node of each level points past the end
+        for (int l = 0; l < level; l++) {
+            last[l].width[l] = size - lastPosition[l];
+        }
+    }
+
+    /**
+     * Level 1 with probability 1/2, 2 with 1/4, ...: 1 + the number of trailing zeros of a random int.
+     */
+    private static int randomLevel() {
+        int random = ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1));
+        return 1 + Integer.numberOfTrailingZeros(random);
+    }
+}
@@ -1,12 +1,20 @@
 package dataStructures.list;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Interface for implementing a linked list. It is up to the implementor if to decide if they want to implement
  * a single/double-linked list with/without a tail pointer and with/without sentinel node(s).
+ * <p>
+ * The iterator has to be fail-fast: once the list is structurally modified (an item added or removed, or the list
+ * reversed) other than through the iterator, its next call to next() throws a ConcurrentModificationException.
  *
  * @param <E> type of item that the list will contain.
  */
-interface List<E> {
+interface List<E> extends Iterable<E> {
     /**
      * Returns size of the list.
      *
@@ -113,4 +121,34 @@ interface List<E> {
      * Reverses the list.
      */
     void reverse();
-}
\ No newline at end of file
+
+    /**
+     * SIZED and ORDERED spliterator on top of the iterator. Splitting copies batches of items (1024, then 2048, ...)
+     * into arrays that the other threads can work on, which is as good as it gets without random access, and still
+     * O(n) in total.
+     *
+     * @return spliterator over the items in order.
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Sequential stream over the items in order.
+     *
+     * @return stream of the items.
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Parallel stream over the items, see {@link #spliterator()} for the splitting.
+     *
+     * @return parallel stream of the items.
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+}
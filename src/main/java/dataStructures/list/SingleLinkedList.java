@@ -1,6 +1,9 @@
 package dataStructures.list;
 
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 public class SingleLinkedList<E> implements List<E> {
     private class Node {
@@ -24,6 +27,8 @@ public class SingleLinkedList<E> implements List<E> {
 
     private Node head;
     private int size;
+    // number of structural modifications, for the fail-fast iterators
+    private int modCount;
 
     /**
      * Always constant-time because it's a precomputed value: O(1).
@@ -81,6 +86,7 @@ public class SingleLinkedList<E> implements List<E> {
             head = new Node(item, head);
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -102,6 +108,7 @@ public class SingleLinkedList<E> implements List<E> {
             currentNode.next = newNode;
         }
         size++;
+        modCount++;
     }
 
     @Override
@@ -128,6 +135,8 @@ public class SingleLinkedList<E> implements List<E> {
         } else {
             head = newNode;
         }
+        size++;
+        modCount++;
     }
 
     /**
@@ -155,6 +164,7 @@ public class SingleLinkedList<E> implements List<E> {
             head = null;
         }
         size--;
+        modCount++;
         return node.item;
     }
 
@@ -170,6 +180,7 @@ public class SingleLinkedList<E> implements List<E> {
         Node node = head;
         head = head.next;
         size--;
+        modCount++;
         return node.item;
     }
 
@@ -217,6 +228,7 @@ public class SingleLinkedList<E> implements List<E> {
                     head = currentNode.next;
                 }
                 size--;
+                modCount++;
                 break;
             }
             previousNode = currentNode;
@@ -249,6 +261,7 @@ public class SingleLinkedList<E> implements List<E> {
             head = currentNode.next;
         }
         size--;
+        modCount++;
     }
 
     /**
@@ -285,5 +298,35 @@ public class SingleLinkedList<E> implements List<E> {
             currentNode = nextNode; // advance current node
         }
         head = reverseNode;
+        modCount++;
+    }
+
+    /**
+     * Fail-fast iterator that follows the links: O(1) per item.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Node nextNode = head;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return nextNode != null;
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (nextNode == null) {
+                    throw new NoSuchElementException();
+                }
+                E item = nextNode.item;
+                nextNode = nextNode.next;
+                return item;
+            }
+        };
     }
 }
\ No newline at end of file
@@ -1,6 +1,11 @@
 package dataStructures.list;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 
 public class SingleLinkedListTail<E> implements List<E> {
     private class Node {
@@ -21,6 +26,8 @@ public class SingleLinkedListTail<E> implements List<E> {
     private Node tail;
 
     private int size;
+    // number of structural modifications, for the fail-fast iterators
+    private int modCount;
 
     @SafeVarargs
     public SingleLinkedListTail(E... items) {
@@ -69,12 +76,13 @@ public class SingleLinkedListTail<E> implements List<E> {
     public void prepend(E item) {
         Node newNode = new Node(item, head);
 
-        if (size == 1) {
+        if (size == 0) {
             head = tail = newNode;
         } else {
             head = newNode;
         }
         size++;
+        modCount++;
     }
 
     @Override
@@ -93,6 +101,7 @@ public class SingleLinkedListTail<E> implements List<E> {
         if (size == 1) {
             head = tail;
         }
+        modCount++;
     }
 
     @Override
@@ -101,34 +110,28 @@ public class SingleLinkedListTail<E> implements List<E> {
             throw new IndexOutOfBoundsException();
         }
 
-        if (size == 1) {
-            head = tail = new Node(item);
-        } else {
-            int nodeIndex = 0;
-            Node previousNode = null;
-            Node currentNode = head;
+        int nodeIndex = 0;
+        Node previousNode = null;
+        Node currentNode = head;
 
-            // navigate to the node at index
-            while (nodeIndex != index) {
-                previousNode = currentNode;
-                currentNode = currentNode.next;
-                nodeIndex++;
-            }
+        // navigate to the node at index
+        while (nodeIndex != index) {
+            previousNode = currentNode;
+            currentNode = currentNode.next;
+            nodeIndex++;
+        }
 
-            // inserting the head
-            if (previousNode == null) {
-                head = new Node(item, head.next);
-            }
-            // inserting the tail
-            else if (currentNode.next == null) {
-                Node node = new Node(item);
-                previousNode.next = node;
-                tail = node;
-            } else { // inserting into the middle
-                previousNode.next = new Node(item, currentNode.next);
-            }
+        // the new node goes before the current one, which can't be past the tail (index < size)
+        Node newNode = new Node(item, currentNode);
+
+        // inserting the head
+        if (previousNode == null) {
+            head = newNode;
+        } else { // inserting into the middle
+            previousNode.next = newNode;
         }
         size++;
+        modCount++;
     }
 
     @Override
@@ -148,10 +151,13 @@ public class SingleLinkedListTail<E> implements List<E> {
         Node node = tail;
         tail = previousNode;
         size--;
+        modCount++;
 
-        // also update the head if needed
-        if (size == 1) {
-            head = tail;
+        // unlink the old tail, or empty the list if it was the only node
+        if (tail != null) {
+            tail.next = null;
+        } else {
+            head = null;
         }
         return node.item;
     }
@@ -164,6 +170,12 @@ public class SingleLinkedListTail<E> implements List<E> {
         Node node = head;
         head = head.next;
         size--;
+        modCount++;
+
+        // the list is empty, so there's no tail either
+        if (head == null) {
+            tail = null;
+        }
         return node.item;
     }
 
@@ -203,6 +215,8 @@ public class SingleLinkedListTail<E> implements List<E> {
                     tail = previousNode;
                 }
                 size--;
+                modCount++;
+                break;
             }
             // advance the nodes
             previousNode = currentNode;
@@ -238,6 +252,7 @@ public class SingleLinkedListTail<E> implements List<E> {
             tail = previousNode;
         }
         size--;
+        modCount++;
     }
 
     @Override
@@ -271,5 +286,207 @@ public class SingleLinkedListTail<E> implements List<E> {
         }
         tail = head;
         head = reverseNode;
+        modCount++;
+    }
+
+    /**
+     * Moves all the items of the other list to the end of this one, leaving the other list empty. Constant-time
+     * because it only links our tail to its head: O(1).
+     *
+     * @param other list to take the items from.
+     */
+    public void appendAll(SingleLinkedListTail<E> other) {
+        splice(size, other);
+    }
+
+    /**
+     * Moves all the items of the other list into this one, before the item at index (size to append), leaving the
+     * other list empty. No node is copied, only the links at both ends change: O(index), O(1) at both ends.
+     *
+     * @param index index at which to insert the items.
+     * @param other list to take the items from.
+     */
+    public void splice(int index, SingleLinkedListTail<E> other) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("Can't splice a list into itself");
+        }
+        if (other.head == null) {
+            return;
+        }
+
+        // at the front
+        if (index == 0) {
+            other.tail.next = head;
+            head = other.head;
+            if (tail == null) {
+                tail = other.tail;
+            }
+        }
+        // at the end, the tail optimization
+        else if (index == size) {
+            tail.next = other.head;
+            tail = other.tail;
+        } else { // in the middle
+            Node previousNode = head;
+            for (int nodeIndex = 1; nodeIndex != index; nodeIndex++) {
+                previousNode = previousNode.next;
+            }
+            other.tail.next = previousNode.next;
+            previousNode.next = other.head;
+        }
+        size += other.size;
+        modCount++;
+
+        other.head = other.tail = null;
+        other.size = 0;
+        other.modCount++;
+    }
+
+    /**
+     * Removes all the items that match the filter, in a single pass over the nodes: O(n).
+     *
+     * @param filter predicate that returns true for the items to remove.
+     * @return true if any item was removed.
+     */
+    public boolean removeIf(Predicate<? super E> filter) {
+        int oldSize = size;
+        Node previousNode = null;
+        Node currentNode = head;
+
+        while (currentNode != null) {
+            if (filter.test(currentNode.item)) {
+                // not the head node
+                if (previousNode != null) {
+                    previousNode.next = currentNode.next;
+                } else {
+                    head = currentNode.next;
+                }
+                size--;
+            } else {
+                previousNode = currentNode;
+            }
+            currentNode = currentNode.next;
+        }
+        // the last node that stayed
+        tail = previousNode;
+
+        if (size == oldSize) {
+            return false;
+        }
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Stable in-place merge sort, bottom-up so that there's no recursion: the list is merged in runs of 1, 2, 4, ...
+     * nodes, cutting the runs off the list and relinking them in order. Only links change, no node or item is
+     * allocated or copied: O(n*log(n)) time, O(1) space.
+     *
+     * @param comparator order of the items, natural order if null.
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> comparator) {
+        if (size < 2) {
+            return;
+        }
+        Comparator<? super E> order = comparator != null
+                ? comparator
+                : (Comparator<? super E>) Comparator.naturalOrder();
+
+        // placeholder before the head, so that the first run doesn't need a special case
+        Node sentinel = new Node(null);
+
+        for (int width = 1; ; width <<= 1) {
+            Node remaining = head;
+            Node last = sentinel;
+
+            while (remaining != null) {
+                Node left = remaining;
+                Node right = cut(left, width);
+                remaining = cut(right, width);
+                last = merge(left, right, last, order);
+            }
+            head = sentinel.next;
+            tail = last;
+
+            // runs of 2 * width are sorted now
+            if (width >= size - width) {
+                break;
+            }
+        }
+        modCount++;
+    }
+
+    /**
+     * Cuts the list after count nodes.
+     *
+     * @return first node after the cut, null if there are count nodes or less.
+     */
+    private Node cut(Node node, int count) {
+        for (int i = 1; node != null && i < count; i++) {
+            node = node.next;
+        }
+        if (node == null) {
+            return null;
+        }
+        Node rest = node.next;
+        node.next = null;
+        return rest;
+    }
+
+    /**
+     * Merges the two sorted runs after the last node, taking from the left run on ties to keep the sort stable.
+     *
+     * @return last node of the merged run.
+     */
+    private Node merge(Node left, Node right, Node last, Comparator<? super E> order) {
+        while (left != null && right != null) {
+            if (order.compare(right.item, left.item) < 0) {
+                last.next = right;
+                right = right.next;
+            } else {
+                last.next = left;
+                left = left.next;
+            }
+            last = last.next;
+        }
+        last.next = left != null ? left : right;
+
+        while (last.next != null) {
+            last = last.next;
+        }
+        return last;
+    }
+
+    /**
+     * Fail-fast iterator that follows the links: O(1) per item.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Node nextNode = head;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return nextNode != null;
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (nextNode == null) {
+                    throw new NoSuchElementException();
+                }
+                E item = nextNode.item;
+                nextNode = nextNode.next;
+                return item;
+            }
+        };
     }
 }
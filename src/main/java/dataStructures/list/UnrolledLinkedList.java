@@ -0,0 +1,484 @@
+package dataStructures.list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Unrolled linked list: a double-linked list of nodes that each hold up to capacity items in an array.
+ * <p>
+ * A linked list node costs an object header and a pointer per item, and walking the list is a pointer chase (most
+ * likely a cache miss) per item. Here the header and the links are shared by up to capacity items that sit next to
+ * each other in memory, so the overhead per item is close to the array slot, and a traversal is one pointer chase
+ * per node and a sequential scan of its array.
+ * <p>
+ * Every node but the last is kept at least half full: a full node is split in two halves when an item is inserted
+ * or prepended into it, and a node that falls below half after a removal borrows items from the next node until it
+ * is half full or, if both of them fit in one node, gets merged with it. So the items take at most twice the slots
+ * they need, plus the last node.
+ *
+ * @param <E> type of item that the list will contain.
+ */
+public class UnrolledLinkedList<E> implements List<E> {
+    static final int DEFAULT_NODE_CAPACITY = 32;
+
+    private class Node {
+        private final Object[] items = new Object[nodeCapacity];
+        private int count;
+        private Node previous;
+        private Node next;
+
+        @SuppressWarnings("unchecked")
+        private E item(int offset) {
+            return (E) items[offset];
+        }
+
+        private void insert(int offset, E item) {
+            System.arraycopy(items, offset, items, offset + 1, count - offset);
+            items[offset] = item;
+            count++;
+        }
+
+        private E remove(int offset) {
+            E item = item(offset);
+            System.arraycopy(items, offset + 1, items, offset, count - offset - 1);
+            items[--count] = null;
+            return item;
+        }
+    }
+
+    /**
+     * Position of an item: the node that holds it and its offset in that node.
+     */
+    private class Location {
+        private final Node node;
+        private final int offset;
+
+        private Location(Node node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+    }
+
+    private final int nodeCapacity;
+
+    private Node head;
+    private Node tail;
+    private int size;
+    // number of structural modifications, for the fail-fast iterators
+    private int modCount;
+
+    @SafeVarargs
+    public UnrolledLinkedList(E... items) {
+        this(DEFAULT_NODE_CAPACITY);
+        Arrays.asList(items).forEach(this::append);
+    }
+
+    private UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Node capacity must be at least 2: " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Empty list with the given node capacity (a constructor would clash with a list of one Integer).
+     *
+     * @param nodeCapacity maximum number of items in a node.
+     */
+    public static <E> UnrolledLinkedList<E> withNodeCapacity(int nodeCapacity) {
+        return new UnrolledLinkedList<>(nodeCapacity);
+    }
+
+    /**
+     * Always constant-time because it's a precomputed value: O(1).
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Always constant-time because it depends on a precomputed value: O(1).
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Because we need to go through the nodes (from the closest end), but not their items: O(n / capacity).
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Location location = locate(index);
+        return location.node.item(location.offset);
+    }
+
+    @Override
+    public E getFromEnd(int index) {
+        int targetIndex = size - index;
+        return get(targetIndex); // will throw exception if index -> targetIndex is wrong
+    }
+
+    /**
+     * Constant-time, shifting or splitting at most capacity items in the head node: O(1).
+     */
+    @Override
+    public void prepend(E item) {
+        if (head == null) {
+            linkBefore(null);
+        } else if (head.count == nodeCapacity) {
+            split(head);
+        }
+        head.insert(0, item);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Constant-time because we maintain reference to the tail: O(1).
+     */
+    @Override
+    public void append(E item) {
+        if (tail == null || tail.count == nodeCapacity) {
+            linkAfter(tail);
+        }
+        tail.items[tail.count++] = item;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Inserts the item before the one at index: O(n / capacity) to find the node, plus O(capacity) to split it.
+     */
+    @Override
+    public void insert(int index, E item) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        Location location = locate(index);
+        Node node = location.node;
+        int offset = location.offset;
+
+        if (node.count == nodeCapacity) {
+            Node upper = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = upper;
+            }
+        }
+        node.insert(offset, item);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Constant-time because we maintain reference to the tail: O(1).
+     */
+    @Override
+    public E pop() {
+        if (tail == null) {
+            throw new IndexOutOfBoundsException();
+        }
+        E item = tail.remove(tail.count - 1);
+        if (tail.count == 0) {
+            unlink(tail);
+        }
+        size--;
+        modCount++;
+        return item;
+    }
+
+    /**
+     * Constant-time, shifting at most capacity items in the head node: O(1).
+     */
+    @Override
+    public E popFront() {
+        if (head == null) {
+            throw new IndexOutOfBoundsException();
+        }
+        E item = head.remove(0);
+        rebalance(head);
+        size--;
+        modCount++;
+        return item;
+    }
+
+    @Override
+    public E getFirst() {
+        if (head == null) {
+            throw new IndexOutOfBoundsException();
+        }
+        return head.item(0);
+    }
+
+    @Override
+    public E getLast() {
+        if (tail == null) {
+            throw new IndexOutOfBoundsException();
+        }
+        return tail.item(tail.count - 1);
+    }
+
+    /**
+     * Because we need to go through all the items to find the item: O(n).
+     */
+    @Override
+    public void remove(E item) {
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(node.items[i], item)) {
+                    node.remove(i);
+                    rebalance(node);
+                    size--;
+                    modCount++;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * O(n / capacity) to find the node, plus O(capacity) to shift its items and rebalance it.
+     */
+    @Override
+    public void removeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Location location = locate(index);
+        location.node.remove(location.offset);
+        rebalance(location.node);
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Because we need to go through all the items: O(n), but scanning arrays rather than chasing a pointer per item.
+     */
+    @Override
+    public int findIndex(E item) {
+        int index = 0;
+
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(node.items[i], item)) {
+                    return index + i;
+                }
+            }
+            index += node.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Reverses the order of the nodes and the items in each node: O(n).
+     */
+    @Override
+    public void reverse() {
+        Node node = head;
+
+        while (node != null) {
+            for (int i = 0, j = node.count - 1; i < j; i++, j--) {
+                Object item = node.items[i];
+                node.items[i] = node.items[j];
+                node.items[j] = item;
+            }
+            Node next = node.next;
+            node.next = node.previous;
+            node.previous = next;
+            node = next;
+        }
+        Node oldHead = head;
+        head = tail;
+        tail = oldHead;
+
+        // the old tail is the first node now, and it's the only one that might be under half full
+        rebalance(head);
+        modCount++;
+    }
+
+    /**
+     * Fail-fast iterator that scans the array of each node: O(1) per item.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Node node = head;
+            private int offset;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return node != null;
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (node == null) {
+                    throw new NoSuchElementException();
+                }
+                E item = node.item(offset++);
+                // nodes are never empty, so the next one has an item if there's one
+                if (offset == node.count) {
+                    node = node.next;
+                    offset = 0;
+                }
+                return item;
+            }
+        };
+    }
+
+    int nodeCapacity() {
+        return nodeCapacity;
+    }
+
+    /**
+     * Number of items in each node, from the head to the tail.
+     */
+    int[] nodeCounts() {
+        int nodes = 0;
+        for (Node node = head; node != null; node = node.next) {
+            nodes++;
+        }
+        int[] counts = new int[nodes];
+        int i = 0;
+        for (Node node = head; node != null; node = node.next) {
+            counts[i++] = node.count;
+        }
+        return counts;
+    }
+
+    /**
+     * Finds the node that contains the item at index, from whichever end of the list is closer.
+     */
+    private Location locate(int index) {
+        Node node;
+        if (index < size / 2) {
+            node = head;
+            while (index >= node.count) {
+                index -= node.count;
+                node = node.next;
+            }
+        } else {
+            // count from the end: index becomes the number of items after the one we want
+            index = size - 1 - index;
+            node = tail;
+            while (index >= node.count) {
+                index -= node.count;
+                node = node.previous;
+            }
+            index = node.count - 1 - index;
+        }
+        return new Location(node, index);
+    }
+
+    /**
+     * Moves the upper half of a full node to a new node after it.
+     *
+     * @return the new node.
+     */
+    private Node split(Node node) {
+        Node upper = linkAfter(node);
+        int half = nodeCapacity / 2;
+        int moved = node.count - half;
+        System.arraycopy(node.items, half, upper.items, 0, moved);
+        Arrays.fill(node.items, half, node.count, null);
+        upper.count = moved;
+        node.count = half;
+        return upper;
+    }
+
+    /**
+     * Keeps the node at least half full (unless it's the last one) by merging the next node into it if they fit in
+     * one node, or else by borrowing the first items of the next node until it's half full, which leaves more than
+     * half in the next one. Removes the node if it's empty.
+     */
+    private void rebalance(Node node) {
+        if (node == null) {
+            return;
+        }
+        if (node.count == 0) {
+            unlink(node);
+            return;
+        }
+
+        Node next = node.next;
+        int half = nodeCapacity / 2;
+        if (node.count >= half || next == null) {
+            return;
+        }
+
+        if (node.count + next.count <= nodeCapacity) {
+            System.arraycopy(next.items, 0, node.items, node.count, next.count);
+            node.count += next.count;
+            unlink(next);
+        } else {
+            int borrowed = half - node.count;
+            System.arraycopy(next.items, 0, node.items, node.count, borrowed);
+            System.arraycopy(next.items, borrowed, next.items, 0, next.count - borrowed);
+            Arrays.fill(next.items, next.count - borrowed, next.count, null);
+            node.count = half;
+            next.count -= borrowed;
+        }
+    }
+
+    private Node linkBefore(Node successor) {
+        Node node = new Node();
+        node.next = successor;
+
+        if (successor == null) {
+            head = tail = node;
+        } else {
+            node.previous = successor.previous;
+            if (successor.previous != null) {
+                successor.previous.next = node;
+            } else {
+                head = node;
+            }
+            successor.previous = node;
+        }
+        return node;
+    }
+
+    private Node linkAfter(Node predecessor) {
+        Node node = new Node();
+        node.previous = predecessor;
+
+        if (predecessor == null) {
+            head = tail = node;
+        } else {
+            node.next = predecessor.next;
+            if (predecessor.next != null) {
+                predecessor.next.previous = node;
+            } else {
+                tail = node;
+            }
+            predecessor.next = node;
+        }
+        return node;
+    }
+
+    private void unlink(Node node) {
+        if (node.previous != null) {
+            node.previous.next = node.next;
+        } else {
+            head = node.next;
+        }
+        if (node.next != null) {
+            node.next.previous = node.previous;
+        } else {
+            tail = node.previous;
+        }
+    }
+}
@@ -11,7 +11,7 @@ public class MaxHeap implements Heap {
     private int size;
 
     // creates an empty heap
-    private MaxHeap(int maxSize) {
+    protected MaxHeap(int maxSize) {
         this.maxSize = maxSize;
         this.heap = new int[maxSize + 1];  // we won't use index 0, so need +1 space
     }
@@ -39,33 +39,42 @@ public class MaxHeap implements Heap {
         heap[targetIndex] = temp;
     }
 
-    private void siftUp(int index) {
+    /**
+     * Decides the order of the heap, subclasses can override it to get a min heap or to order by some other key.
+     *
+     * @return true if the first priority belongs closer to the root than the second.
+     */
+    protected boolean isHigherPriority(int priority, int otherPriority) {
+        return priority > otherPriority;
+    }
+
+    protected void siftUp(int index) {
         int parentIndex = index / 2;
 
-        if (index > 1 && heap[index] > parentIndex) {
+        if (index > 1 && isHigherPriority(heap[index], heap[parentIndex])) {
             // swap with parent, keep sifting up
             swap(index, parentIndex);
             siftUp(parentIndex);
         }
     }
 
-    private void siftDown(int index) {
+    protected void siftDown(int index) {
         int maxIndex = index;
         int leftIndex = 2 * index;
         int rightIndex = 2 * index + 1;
 
-        // check if left child exists and is bigger than current node
-        if (leftIndex <= size && heap[leftIndex] > heap[maxIndex]) {
+        // check if left child exists and has higher priority than current node
+        if (leftIndex <= size && isHigherPriority(heap[leftIndex], heap[maxIndex])) {
             maxIndex = leftIndex;
         }
-        // check if right child exists and is bigger than current node
-        if (rightIndex <= size && heap[rightIndex] > heap[maxIndex]) {
+        // check if right child exists and has higher priority than current node
+        if (rightIndex <= size && isHigherPriority(heap[rightIndex], heap[maxIndex])) {
             maxIndex = rightIndex;
         }
 
-        // check if current node not the biggest
+        // check if current node is not the highest priority
         if (index != maxIndex) {
-            // swap for bigger child, keep sifting down
+            // swap for the child, keep sifting down
             swap(index, maxIndex);
             siftDown(maxIndex);
         }
@@ -113,9 +122,16 @@ public class MaxHeap implements Heap {
 
     @Override
     public void remove(int index) {
-        heap[index] = Integer.MAX_VALUE;
-        siftUp(index); // sift up the value until it's root
-        extractMax(); // extract the fake root
+        int oldPriority = heap[index];
+        heap[index] = heap[size]; // replace with a leaf node
+        size--;
+
+        // the leaf node can go either way, depending on the priority it had
+        if (isHigherPriority(heap[index], oldPriority)) {
+            siftUp(index);
+        } else {
+            siftDown(index);
+        }
     }
 
     @Override
@@ -123,7 +139,7 @@ public class MaxHeap implements Heap {
         int oldPriority = heap[index];
         heap[index] = priority;
 
-        if (priority > oldPriority) {
+        if (isHigherPriority(priority, oldPriority)) {
             siftUp(index);
         } else {
             siftDown(index);
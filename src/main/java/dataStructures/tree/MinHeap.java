@@ -0,0 +1,31 @@
+package dataStructures.tree;
+
+/**
+ * Min-ordered variant of {@link MaxHeap}: the lowest priority is kept at the root, so the "max" operations of the
+ * {@link Heap} interface return the minimum. {@link #getMin()} and {@link #extractMin()} are there for readability.
+ * <p>
+ * Note that {@link #heapSort()} of a min heap returns the priorities in descending order.
+ */
+public class MinHeap extends MaxHeap {
+    // creates an empty heap
+    protected MinHeap(int maxSize) {
+        super(maxSize);
+    }
+
+    public MinHeap(int[] sourceArray) {
+        super(sourceArray);
+    }
+
+    @Override
+    protected boolean isHigherPriority(int priority, int otherPriority) {
+        return priority < otherPriority;
+    }
+
+    public int getMin() {
+        return getMax();
+    }
+
+    public int extractMin() {
+        return extractMax();
+    }
+}
@@ -0,0 +1,84 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveSortTest {
+    @Test
+    void testSort() {
+        assertArrayEquals(new int[]{-1, 1, 5, 9, 10, 17, 33, 41},
+                AdaptiveSort.sort(new int[]{1, 10, 33, 41, 5, -1, 9, 17}));
+        assertArrayEquals(new int[0], AdaptiveSort.sort(new int[0]));
+    }
+
+    @Test
+    void testSortedChoosesMerge() {
+        int[] sorted = new int[100_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+        assertEquals(AdaptiveSort.Algorithm.MERGE, AdaptiveSort.choose(AdaptiveSort.Profile.of(sorted)));
+
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = -i;
+        }
+        assertEquals(AdaptiveSort.Algorithm.MERGE, AdaptiveSort.choose(AdaptiveSort.Profile.of(sorted)));
+    }
+
+    @Test
+    void testRandomChoosesRadix() {
+        int[] random = new Random(3).ints(100_000).toArray();
+        assertEquals(AdaptiveSort.Algorithm.RADIX, AdaptiveSort.choose(AdaptiveSort.Profile.of(random)));
+    }
+
+    @Test
+    void testFewDistinctChoosesQuick() {
+        int[] fewDistinct = new Random(3).ints(100_000, 0, 4).toArray();
+        assertEquals(AdaptiveSort.Algorithm.QUICK, AdaptiveSort.choose(AdaptiveSort.Profile.of(fewDistinct)));
+    }
+
+    @Test
+    void testStatistics() {
+        int[] random = new Random(3).ints(20_000).toArray();
+        int[] expected = Arrays.copyOf(random, random.length);
+        Arrays.sort(expected);
+
+        AdaptiveSort.Statistics statistics = new AdaptiveSort.Statistics();
+        assertArrayEquals(expected, AdaptiveSort.sort(random, statistics));
+
+        assertEquals(AdaptiveSort.Algorithm.QUICK, statistics.getAlgorithm());
+        assertEquals(20_000, statistics.getProfile().length);
+        assertTrue(statistics.getComparisons() > 0);
+        assertTrue(statistics.getSortNanos() > 0);
+    }
+
+    @Test
+    void testStatisticsAreCounted() {
+        int[] sorted = new int[100_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+
+        AdaptiveSort.Statistics statistics = new AdaptiveSort.Statistics();
+        AdaptiveSort.sort(sorted, statistics);
+
+        // a single run: nothing is moved, and the merge sort only compares neighbours
+        assertEquals(AdaptiveSort.Algorithm.MERGE, statistics.getAlgorithm());
+        assertEquals(0, statistics.getSwaps());
+        assertEquals(0, statistics.getBytesMoved());
+        assertEquals(statistics.getProfile().comparisons + 1 + 2 * (sorted.length - 1), statistics.getComparisons());
+
+        int[] fewDistinct = new Random(3).ints(100_000, 0, 3).toArray();
+        AdaptiveSort.sort(fewDistinct, statistics);
+
+        assertEquals(AdaptiveSort.Algorithm.QUICK, statistics.getAlgorithm());
+        assertTrue(statistics.getEqualKeysPartitions() > 0);
+        assertEquals(0, statistics.getHeapSortFallbacks());
+    }
+}
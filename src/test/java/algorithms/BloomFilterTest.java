@@ -0,0 +1,77 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterTest {
+    @Test
+    void testNoFalseNegatives() {
+        int[] values = new Random(1).ints(50_000).toArray();
+        Arrays.sort(values);
+        BloomFilter filter = new BloomFilter(values);
+
+        for (int value : values) {
+            assertTrue(filter.mightContain(value));
+        }
+    }
+
+    @Test
+    void testLongValues() {
+        long[] values = new Random(2).longs(10_000).toArray();
+        Arrays.sort(values);
+        BloomFilter filter = new BloomFilter(values, 16);
+
+        for (long value : values) {
+            assertTrue(filter.mightContain(value));
+        }
+    }
+
+    @Test
+    void testFalsePositiveRate() {
+        int[] values = new int[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 2 * i;
+        }
+        BloomFilter filter = BloomFilter.withFalsePositiveRate(values, 0.01);
+
+        int falsePositives = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (filter.mightContain(2 * i + 1)) falsePositives++;
+        }
+        // 1% asked, the blocking costs a little, but it shouldn't be anywhere near 2%
+        assertTrue(falsePositives < values.length / 50, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void testEmptyFilter() {
+        BloomFilter filter = new BloomFilter(new int[0]);
+
+        assertFalse(filter.mightContain(0));
+        assertEquals(512, filter.bitSize());
+    }
+
+    @Test
+    void testDuplicatesTakeSpaceOnce() {
+        int[] values = new int[10_000];
+        Arrays.fill(values, 5000, 10_000, 7);
+
+        assertEquals(512, new BloomFilter(values, 10).bitSize());
+    }
+
+    @Test
+    void testBitsPerKey() {
+        assertEquals(6, BloomFilter.bitsPerKey(0.1));
+        assertEquals(11, BloomFilter.bitsPerKey(0.01));
+        assertEquals(7, new BloomFilter(new int[]{1}, 10).hashCount());
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.bitsPerKey(0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.bitsPerKey(1));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(new int[]{1}, 0));
+    }
+}
@@ -0,0 +1,75 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ExternalSortTest {
+    private Path directory;
+    private Path input;
+    private Path output;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("external-sort");
+        input = directory.resolve("input.bin");
+        output = directory.resolve("output.bin");
+    }
+
+    @Test
+    void testSort() throws IOException {
+        int[] values = new Random(1).ints(10_500).toArray();
+        write(values, ByteOrder.BIG_ENDIAN);
+
+        // eleven runs to merge
+        ExternalSort.sort(input, output, 1000, ByteOrder.BIG_ENDIAN);
+
+        Arrays.sort(values);
+        assertArrayEquals(values, read(ByteOrder.BIG_ENDIAN));
+        // only the input and output are left
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void testSortSingleChunk() throws IOException {
+        int[] values = new int[]{1, 10, 33, 41, 5, -1, 9, 17};
+        write(values, ByteOrder.LITTLE_ENDIAN);
+
+        ExternalSort.sort(input, output, 1000, ByteOrder.LITTLE_ENDIAN);
+
+        assertArrayEquals(new int[]{-1, 1, 5, 9, 10, 17, 33, 41}, read(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    @Test
+    void testInvalidFileSize() throws IOException {
+        Files.write(input, new byte[5]);
+        assertThrows(IllegalArgumentException.class, () -> ExternalSort.sort(input, output));
+    }
+
+    private void write(int[] values, ByteOrder order) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(order);
+        buffer.asIntBuffer().put(values);
+        Files.write(input, buffer.array());
+    }
+
+    private int[] read(ByteOrder order) throws IOException {
+        byte[] bytes = Files.readAllBytes(output);
+        int[] values = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).order(order).asIntBuffer().get(values);
+        return values;
+    }
+}
@@ -0,0 +1,54 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EytzingerIndexTest {
+    private EytzingerIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EytzingerIndex(new int[]{-1, 1, 5, 9, 10, 17, 33, 41});
+    }
+
+    @Test
+    void testIndexOf() {
+        assertEquals(2, index.indexOf(5));
+        assertEquals(0, index.indexOf(-1));
+        assertEquals(7, index.indexOf(41));
+    }
+
+    @Test
+    void testInvalidIndexOf() {
+        assertEquals(-1, index.indexOf(111));
+        assertEquals(-1, index.indexOf(6));
+        assertEquals(-1, new EytzingerIndex(new int[0]).indexOf(1));
+    }
+
+    @Test
+    void testLowerBound() {
+        assertEquals(3, index.lowerBound(6));
+        assertEquals(0, index.lowerBound(-100));
+        assertEquals(8, index.lowerBound(111));
+    }
+
+    @Test
+    void testAllSizes() {
+        Random random = new Random(5);
+
+        for (int size = 1; size < 300; size++) {
+            int[] values = random.ints(size, -1000, 1000).toArray();
+            Arrays.sort(values);
+            EytzingerIndex sizedIndex = new EytzingerIndex(values);
+
+            for (int key = -1001; key <= 1001; key += 7) {
+                assertEquals(Search.lowerBoundBranchless(values, key), sizedIndex.lowerBound(key));
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FibonacciCacheTest {
+    private FibonacciCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new FibonacciCache();
+    }
+
+    @Test
+    void testGet() {
+        assertEquals(BigInteger.ZERO, cache.get(0));
+        assertEquals(BigInteger.valueOf(55), cache.get(10));
+        assertEquals(Fibonacci.bigFibonacci(500), cache.get(500));
+        assertThrows(IllegalArgumentException.class, () -> cache.get(-1));
+    }
+
+    @Test
+    void testPrefix() {
+        List<BigInteger> prefix = cache.prefix(7);
+
+        assertEquals(Arrays.asList(0, 1, 1, 2, 3, 5, 8), prefix.stream().map(BigInteger::intValue).collect(toList()));
+        assertEquals(0, cache.prefix(0).size());
+        assertThrows(UnsupportedOperationException.class, () -> prefix.set(0, BigInteger.TEN));
+    }
+
+    @Test
+    void testGrowsByDoubling() {
+        cache.get(10);
+        int size = cache.size();
+        cache.get(size);
+
+        assertTrue(cache.size() >= 2 * size);
+    }
+
+    @Test
+    void testConcurrentGrowth() {
+        IntStream.range(0, 2000).parallel()
+                .forEach(n -> assertEquals(Fibonacci.bigFibonacci(n % 700), cache.get(n % 700)));
+
+        List<BigInteger> prefix = cache.prefix(700);
+        for (int n = 0; n < 700; n++) {
+            assertEquals(Fibonacci.bigFibonacci(n), prefix.get(n));
+        }
+    }
+
+    @Test
+    void testLongStream() {
+        long[] expected = new long[FibonacciCache.MAX_LONG_COUNT];
+        for (int n = 0; n < expected.length; n++) {
+            expected[n] = Fibonacci.fibonacci(n);
+        }
+
+        assertArrayEquals(expected, FibonacciCache.longStream(FibonacciCache.MAX_LONG_COUNT).toArray());
+        assertArrayEquals(expected, FibonacciCache.longStream(FibonacciCache.MAX_LONG_COUNT).parallel().toArray());
+        assertArrayEquals(new long[]{0, 1, 1, 2, 3}, FibonacciCache.longStream(5).toArray());
+        assertEquals(0, FibonacciCache.longStream(0).count());
+        assertThrows(IllegalArgumentException.class, () -> FibonacciCache.longStream(94));
+    }
+
+    @Test
+    void testSpliteratorSplit() {
+        Spliterator.OfLong suffix = FibonacciCache.spliterator(10);
+        Spliterator.OfLong prefix = suffix.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(5, prefix.estimateSize());
+        assertEquals(5, suffix.estimateSize());
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        suffix.tryAdvance((long value) -> assertEquals(5, value));
+    }
+}
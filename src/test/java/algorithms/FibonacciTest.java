@@ -2,7 +2,11 @@ package algorithms;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
+
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class FibonacciTest {
     @Test
@@ -14,4 +18,47 @@ public class FibonacciTest {
     void testRecursiveFibonacciSequence() {
         assertArrayEquals(new int[]{0, 1, 1, 2, 3, 5, 8}, Fibonacci.createRecursiveFibonacciSequence(7));
     }
+
+    @Test
+    void testFibonacciSequenceOverflow() {
+        assertEquals(1836311903, Fibonacci.createFibonacciSequence(47)[46]);
+        assertThrows(ArithmeticException.class, () -> Fibonacci.createFibonacciSequence(48));
+    }
+
+    @Test
+    void testFibonacci() {
+        long previous = 0;
+        long current = 1;
+        assertEquals(0, Fibonacci.fibonacci(0));
+
+        for (int n = 1; n <= Fibonacci.MAX_LONG_INDEX; n++) {
+            assertEquals(current, Fibonacci.fibonacci(n));
+            long next = previous + current;
+            previous = current;
+            current = next;
+        }
+        assertEquals(7540113804746346429L, Fibonacci.fibonacci(92));
+    }
+
+    @Test
+    void testFibonacciOverflow() {
+        assertThrows(ArithmeticException.class, () -> Fibonacci.fibonacci(93));
+        assertThrows(IllegalArgumentException.class, () -> Fibonacci.fibonacci(-1));
+    }
+
+    @Test
+    void testBigFibonacci() {
+        BigInteger previous = BigInteger.ZERO;
+        BigInteger current = BigInteger.ONE;
+
+        for (int n = 1; n <= 1000; n++) {
+            assertEquals(current, Fibonacci.bigFibonacci(n));
+            BigInteger next = previous.add(current);
+            previous = current;
+            current = next;
+        }
+        assertEquals(new BigInteger("12200160415121876738"), Fibonacci.bigFibonacci(93));
+        // F(n) has about n * log10(phi) = 0.209 * n digits
+        assertEquals(20899, Fibonacci.bigFibonacci(100_000).toString().length());
+    }
 }
@@ -0,0 +1,59 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FilteredSearchTest {
+    private FilteredSearch search;
+
+    @BeforeEach
+    void setUp() {
+        search = new FilteredSearch(new int[]{-1, 1, 5, 9, 10, 17, 33, 41});
+    }
+
+    @Test
+    void testIndexOf() {
+        assertEquals(2, search.indexOf(5));
+        assertEquals(0, search.indexOf(-1));
+        assertEquals(7, search.indexOf(41));
+        assertEquals(-1, search.indexOf(6));
+        assertEquals(-1, search.indexOf(111));
+        assertTrue(search.contains(9));
+        assertFalse(search.contains(8));
+    }
+
+    @Test
+    void testCounters() {
+        for (int key = -10; key < 50; key++) {
+            search.indexOf(key);
+        }
+
+        assertEquals(8, search.hits());
+        assertEquals(52, search.filteredMisses() + search.falsePositives());
+        assertEquals((double) search.falsePositives() / 52, search.falsePositiveRate());
+
+        search.resetCounters();
+        assertEquals(0, search.hits());
+        assertEquals(0.0, search.falsePositiveRate());
+    }
+
+    @Test
+    void testMostMissesAreFiltered() {
+        int[] values = new int[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 3 * i;
+        }
+        FilteredSearch filtered = new FilteredSearch(values, new BloomFilter(values, 12));
+
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(i, filtered.indexOf(3 * i));
+            assertEquals(-1, filtered.indexOf(3 * i + 1));
+        }
+        assertEquals(values.length, filtered.hits());
+        assertTrue(filtered.falsePositiveRate() < 0.02, "false positive rate: " + filtered.falsePositiveRate());
+    }
+}
@@ -0,0 +1,110 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LearnedIndexTest {
+    private LearnedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new LearnedIndex(new int[]{-1, 1, 5, 9, 10, 17, 33, 41}, 1);
+    }
+
+    @Test
+    void testIndexOf() {
+        assertEquals(2, index.indexOf(5));
+        assertEquals(0, index.indexOf(-1));
+        assertEquals(7, index.indexOf(41));
+        assertEquals(-1, index.indexOf(6));
+        assertEquals(-1, index.indexOf(111));
+        assertEquals(-1, index.indexOf(Long.MAX_VALUE));
+        assertEquals(-1, new LearnedIndex(new int[0]).indexOf(1));
+    }
+
+    @Test
+    void testLowerBound() {
+        assertEquals(3, index.lowerBound(6));
+        assertEquals(0, index.lowerBound(-100));
+        assertEquals(8, index.lowerBound(111));
+        assertEquals(8, index.lowerBound(Long.MAX_VALUE));
+        assertEquals(0, index.lowerBound(Long.MIN_VALUE));
+    }
+
+    @Test
+    void testInvalidEpsilon() {
+        assertThrows(IllegalArgumentException.class, () -> new LearnedIndex(new int[]{1, 2}, 0));
+    }
+
+    @Test
+    void testLinearDataIsOneSegment() {
+        int[] values = new int[100000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 3 * i + 7;
+        }
+        LearnedIndex linear = new LearnedIndex(values);
+
+        assertEquals(1, linear.segmentCount());
+        assertEquals(10000, linear.indexOf(3 * 10000 + 7));
+        assertEquals(-1, linear.indexOf(3 * 10000 + 8));
+    }
+
+    @Test
+    void testRandomData() {
+        Random random = new Random(7);
+
+        for (int epsilon : new int[]{1, 4, 64}) {
+            int[] values = random.ints(20000, -1000000, 1000000).toArray();
+            Arrays.sort(values);
+            LearnedIndex randomIndex = new LearnedIndex(values, epsilon);
+
+            assertTrue(randomIndex.segmentCount() < values.length / 2);
+            for (int i = 0; i < 20000; i++) {
+                int key = random.nextInt(2100000) - 1050000;
+                assertEquals(Search.lowerBound(values, key), randomIndex.lowerBound(key));
+            }
+            for (int value : values) {
+                assertEquals(Search.lowerBound(values, value), randomIndex.indexOf(value));
+            }
+        }
+    }
+
+    @Test
+    void testSkewedLongData() {
+        Random random = new Random(11);
+        long[] values = new long[20000];
+        for (int i = 0; i < values.length; i++) {
+            // exponential growth with long runs of duplicates, ending near the top of the long range
+            values[i] = (long) Math.pow(1.0021, i) * (1 + random.nextInt(2)) + (i % 500 < 200 ? 0 : i);
+        }
+        values[values.length - 1] = Long.MAX_VALUE;
+        Arrays.sort(values);
+        LearnedIndex longIndex = new LearnedIndex(values, 8);
+
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(Search.lowerBound(values, values[i]), longIndex.lowerBound(values[i]));
+            assertEquals(Search.lowerBound(values, values[i] + 1), longIndex.lowerBound(values[i] + 1));
+        }
+        assertEquals(0, longIndex.lowerBound(Long.MIN_VALUE));
+    }
+
+    @Test
+    void testDuplicateRuns() {
+        int[] values = new int[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i < 300 ? 0 : i < 900 ? 5 : i;
+        }
+        LearnedIndex duplicates = new LearnedIndex(values, 2);
+
+        for (int key = -1; key <= 1001; key++) {
+            assertEquals(Search.lowerBound(values, key), duplicates.lowerBound(key));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MappedSearchTest {
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempDirectory("mapped-search").resolve("values.bin");
+    }
+
+    @Test
+    void testInts() throws IOException {
+        write(new int[]{-1, 1, 5, 9, 10, 17, 33, 41}, ByteOrder.BIG_ENDIAN);
+        MappedSearch search = MappedSearch.ofInts(file, ByteOrder.BIG_ENDIAN);
+
+        assertEquals(8, search.size());
+        assertEquals(-1, search.get(0));
+        assertEquals(2, search.indexOf(5));
+        assertEquals(7, search.indexOf(41));
+        assertEquals(-1, search.indexOf(6));
+        assertEquals(-1, search.indexOf(Long.MAX_VALUE));
+        assertEquals(3, search.lowerBound(6));
+        assertEquals(0, search.lowerBound(Long.MIN_VALUE));
+        assertEquals(8, search.upperBound(41));
+        assertEquals(3, search.countInRange(2, 10));
+    }
+
+    @Test
+    void testLongsLittleEndian() throws IOException {
+        long[] values = {Long.MIN_VALUE, -5, 3, 3, 3, 1L << 40, Long.MAX_VALUE};
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asLongBuffer().put(values);
+        Files.write(file, buffer.array());
+        MappedSearch search = MappedSearch.ofLongs(file, ByteOrder.LITTLE_ENDIAN);
+
+        assertEquals(7, search.size());
+        assertEquals(2, search.indexOf(3));
+        assertEquals(5, search.upperBound(3));
+        assertEquals(5, search.indexOf(1L << 40));
+        assertEquals(6, search.indexOf(Long.MAX_VALUE));
+        assertEquals(0, search.indexOf(Long.MIN_VALUE));
+        assertEquals(3, search.countInRange(0, 4));
+    }
+
+    @Test
+    void testSeveralSegments() throws IOException {
+        Random random = new Random(3);
+        int[] values = random.ints(10_000, -50_000, 50_000).toArray();
+        Arrays.sort(values);
+        write(values, ByteOrder.BIG_ENDIAN);
+
+        // 64 byte segments
+        MappedSearch search = new MappedSearch(file, Integer.BYTES, ByteOrder.BIG_ENDIAN, 6);
+
+        for (int key = -50_010; key <= 50_010; key += 3) {
+            assertEquals(Search.lowerBound(values, key), search.lowerBound(key));
+            assertEquals(Search.upperBound(values, key), search.upperBound(key));
+        }
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], search.get(i));
+        }
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+        Files.write(file, new byte[0]);
+        MappedSearch search = MappedSearch.ofInts(file, ByteOrder.BIG_ENDIAN);
+
+        assertEquals(0, search.size());
+        assertEquals(-1, search.indexOf(1));
+        assertEquals(0, search.upperBound(1));
+    }
+
+    @Test
+    void testInvalidFileSize() throws IOException {
+        Files.write(file, new byte[12]);
+        assertThrows(IllegalArgumentException.class, () -> MappedSearch.ofLongs(file, ByteOrder.BIG_ENDIAN));
+    }
+
+    @Test
+    void testInvalidIndex() throws IOException {
+        write(new int[]{1, 2}, ByteOrder.BIG_ENDIAN);
+        MappedSearch search = MappedSearch.ofInts(file, ByteOrder.BIG_ENDIAN);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> search.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> search.get(-1));
+    }
+
+    private void write(int[] values, ByteOrder order) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(order);
+        buffer.asIntBuffer().put(values);
+        Files.write(file, buffer.array());
+    }
+}
@@ -0,0 +1,69 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class PrimitiveSortTest {
+    private long[] longs;
+    private double[] doubles;
+    private short[] shorts;
+    private char[] chars;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(13);
+        longs = random.longs(5000).toArray();
+        doubles = random.doubles(5000, -1, 1).toArray();
+        shorts = new short[5000];
+        chars = new char[5000];
+
+        for (int i = 0; i < shorts.length; i++) {
+            shorts[i] = (short) random.nextInt();
+            chars[i] = (char) random.nextInt();
+        }
+        // special values that don't compare with <
+        doubles[0] = Double.NaN;
+        doubles[1] = -0.0;
+        doubles[2] = 0.0;
+        doubles[3] = Double.NEGATIVE_INFINITY;
+    }
+
+    @Test
+    void testLongSort() {
+        long[] expected = Arrays.copyOf(longs, longs.length);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, LongSort.quickSort(Arrays.copyOf(longs, longs.length)));
+        assertArrayEquals(expected, LongSort.mergeSort(Arrays.copyOf(longs, longs.length)));
+        assertArrayEquals(expected, LongSort.insertionSort(Arrays.copyOf(longs, longs.length)));
+    }
+
+    @Test
+    void testDoubleSort() {
+        double[] expected = Arrays.copyOf(doubles, doubles.length);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, DoubleSort.quickSort(Arrays.copyOf(doubles, doubles.length)));
+        assertArrayEquals(expected, DoubleSort.mergeSort(Arrays.copyOf(doubles, doubles.length)));
+        assertArrayEquals(expected, DoubleSort.insertionSort(Arrays.copyOf(doubles, doubles.length)));
+    }
+
+    @Test
+    void testShortSort() {
+        short[] expected = Arrays.copyOf(shorts, shorts.length);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, ShortSort.quickSort(Arrays.copyOf(shorts, shorts.length)));
+        assertArrayEquals(expected, ShortSort.mergeSort(Arrays.copyOf(shorts, shorts.length), new short[5000]));
+    }
+
+    @Test
+    void testCharSort() {
+        char[] expected = Arrays.copyOf(chars, chars.length);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, CharSort.quickSort(Arrays.copyOf(chars, chars.length), 1));
+        assertArrayEquals(expected, CharSort.mergeSort(Arrays.copyOf(chars, chars.length)));
+    }
+}
@@ -3,7 +3,12 @@ package algorithms;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SearchTest {
     private int[] values;
@@ -32,4 +37,174 @@ public class SearchTest {
     void testInvalidBinarySearchRecursive() {
         assertEquals(-1, Search.binarySearchRecursive(values, 111));
     }
+
+    @Test
+    void testLowerBoundBranchless() {
+        assertEquals(2, Search.lowerBoundBranchless(values, 5));
+        assertEquals(3, Search.lowerBoundBranchless(values, 6));
+        assertEquals(0, Search.lowerBoundBranchless(values, -100));
+        assertEquals(8, Search.lowerBoundBranchless(values, 111));
+        assertEquals(0, Search.lowerBoundBranchless(new int[0], 1));
+    }
+
+    @Test
+    void testBinarySearchBranchless() {
+        assertEquals(7, Search.binarySearchBranchless(values, 41));
+        assertEquals(-1, Search.binarySearchBranchless(values, 6));
+    }
+
+    @Test
+    void testBatchBinarySearch() {
+        int[] keys = {41, 6, -1, 111, 5, -100, 9};
+        int[] result = new int[keys.length];
+
+        Search.binarySearch(values, keys, result);
+        assertArrayEquals(new int[]{7, -1, 0, -1, 2, -1, 3}, result);
+    }
+
+    @Test
+    void testBatchBinarySearchSortedKeys() {
+        int[] keys = {-100, -1, 5, 5, 6, 9, 41, 111};
+        int[] result = new int[keys.length];
+
+        Search.binarySearch(values, keys, result);
+        assertArrayEquals(new int[]{-1, 0, 2, 2, -1, 3, 7, -1}, result);
+    }
+
+    @Test
+    void testBatchBinarySearchRandom() {
+        Random random = new Random(13);
+
+        for (int size : new int[]{0, 1, 7, 100, 5000}) {
+            int[] sortedValues = random.ints(size, -2000, 2000).toArray();
+            Arrays.sort(sortedValues);
+            int[] keys = random.ints(1000, -2100, 2100).toArray();
+            int[] result = new int[keys.length];
+
+            for (int pass = 0; pass < 2; pass++) {
+                Search.binarySearch(sortedValues, keys, result);
+                for (int i = 0; i < keys.length; i++) {
+                    assertEquals(Search.binarySearchBranchless(sortedValues, keys[i]), result[i]);
+                }
+                // second pass with sorted keys
+                Arrays.sort(keys);
+            }
+        }
+    }
+
+    @Test
+    void testBatchBinarySearchResultTooSmall() {
+        assertThrows(IllegalArgumentException.class, () -> Search.binarySearch(values, new int[]{1, 5}, new int[1]));
+    }
+
+    @Test
+    void testBinarySearchRecursiveTwoElements() {
+        // the last element of a two element range used to be skipped
+        assertEquals(1, Search.binarySearchRecursive(new int[]{1, 2}, 2));
+        assertEquals(0, Search.binarySearchRecursive(new int[]{1}, 1));
+        assertEquals(7, Search.binarySearchRecursive(values, 41));
+    }
+
+    @Test
+    void testBounds() {
+        int[] duplicates = {1, 3, 3, 3, 5, 8, 8};
+
+        assertEquals(1, Search.lowerBound(duplicates, 3));
+        assertEquals(4, Search.upperBound(duplicates, 3));
+        assertEquals(4, Search.lowerBound(duplicates, 4));
+        assertEquals(4, Search.upperBound(duplicates, 4));
+        assertEquals(0, Search.upperBound(duplicates, 0));
+        assertEquals(7, Search.upperBound(duplicates, 8));
+        assertEquals(0, Search.upperBound(new int[0], 8));
+    }
+
+    @Test
+    void testLongBounds() {
+        long[] duplicates = {Long.MIN_VALUE, 3, 3, 3, 5, Long.MAX_VALUE};
+
+        assertEquals(1, Search.lowerBound(duplicates, 3L));
+        assertEquals(4, Search.upperBound(duplicates, 3L));
+        assertEquals(0, Search.lowerBound(duplicates, Long.MIN_VALUE));
+        assertEquals(6, Search.upperBound(duplicates, Long.MAX_VALUE));
+    }
+
+    @Test
+    void testEqualRange() {
+        int[] duplicates = {1, 3, 3, 3, 5, 8, 8};
+
+        assertArrayEquals(new int[]{1, 4}, Search.equalRange(duplicates, 3));
+        assertArrayEquals(new int[]{5, 7}, Search.equalRange(duplicates, 8));
+        assertArrayEquals(new int[]{4, 4}, Search.equalRange(duplicates, 4));
+        assertArrayEquals(new int[]{1, 4}, Search.equalRange(new long[]{1, 3, 3, 3, 5}, 3L));
+    }
+
+    @Test
+    void testCountInRange() {
+        int[] duplicates = {1, 3, 3, 3, 5, 8, 8};
+
+        assertEquals(4, Search.countInRange(duplicates, 2, 5));
+        assertEquals(7, Search.countInRange(duplicates, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(0, Search.countInRange(duplicates, 6, 7));
+        assertEquals(0, Search.countInRange(duplicates, 5, 2));
+        assertEquals(1, Search.countInRange(new long[]{1, 3, 3, 3, 5}, 4L, 5L));
+    }
+
+    @Test
+    void testExponentialSearch() {
+        assertEquals(2, Search.exponentialSearch(values, 5));
+        assertEquals(0, Search.exponentialSearch(values, -1));
+        assertEquals(7, Search.exponentialSearch(values, 41));
+        assertEquals(-1, Search.exponentialSearch(values, 6));
+        assertEquals(-1, Search.exponentialSearch(values, 111));
+        assertEquals(-1, Search.exponentialSearch(new int[0], 1));
+        assertEquals(3, Search.exponentialSearch(new long[]{1, 2, 3, 4}, 4L));
+    }
+
+    @Test
+    void testInterpolationSearch() {
+        assertEquals(2, Search.interpolationSearch(values, 5));
+        assertEquals(0, Search.interpolationSearch(values, -1));
+        assertEquals(7, Search.interpolationSearch(values, 41));
+        assertEquals(-1, Search.interpolationSearch(values, 6));
+        assertEquals(-1, Search.interpolationSearch(values, -111));
+        assertEquals(1, Search.interpolationSearch(new int[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE}, 0));
+        assertEquals(1, Search.interpolationSearch(new long[]{Long.MIN_VALUE, 0, Long.MAX_VALUE}, 0L));
+        assertEquals(0, Search.interpolationSearch(new int[]{4, 4, 4}, 4));
+    }
+
+    @Test
+    void testStrategiesAgree() {
+        Random random = new Random(21);
+
+        for (int size : new int[]{0, 1, 2, 10, 1000}) {
+            int[] sortedValues = random.ints(size, -500, 500).toArray();
+            Arrays.sort(sortedValues);
+            long[] longValues = Arrays.stream(sortedValues).asLongStream().toArray();
+
+            for (int key = -510; key <= 510; key++) {
+                int expected = Search.lowerBound(sortedValues, key);
+                for (Search.Strategy strategy : Search.Strategy.values()) {
+                    assertEquals(expected, strategy.lowerBound(sortedValues, key));
+                    assertEquals(expected, strategy.lowerBound(longValues, key));
+                    assertEquals(Search.binarySearchBranchless(sortedValues, key), strategy.indexOf(sortedValues, key));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testChoose() {
+        int[] uniform = new int[10000];
+        int[] squares = new int[10000];
+        for (int i = 0; i < uniform.length; i++) {
+            uniform[i] = 3 * i + (i % 2);
+            squares[i] = i * i;
+        }
+
+        assertEquals(Search.Strategy.INTERPOLATION, Search.choose(uniform));
+        assertEquals(Search.Strategy.BINARY, Search.choose(squares));
+        assertEquals(Search.Strategy.BINARY, Search.choose(values));
+        assertEquals(Search.Strategy.BINARY, Search.choose(new long[1000]));
+        assertEquals(Search.Strategy.INTERPOLATION, Search.choose(Arrays.stream(uniform).asLongStream().toArray()));
+    }
 }
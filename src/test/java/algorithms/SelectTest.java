@@ -0,0 +1,115 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SelectTest {
+    private int[] values;
+    private int[] sortedValues;
+
+    @BeforeEach
+    void setUp() {
+        values = new Random(17).ints(10_000, -5000, 5000).toArray();
+
+        //sort a copy of the array to compare to
+        sortedValues = Arrays.copyOf(values, values.length);
+        Arrays.sort(sortedValues);
+    }
+
+    @Test
+    void testNthElement() {
+        assertEquals(sortedValues[1234], Select.nthElement(values, 1234));
+        // everything before is smaller or equal, everything after bigger or equal
+        for (int i = 0; i < values.length; i++) {
+            assertTrue(i < 1234 ? values[i] <= values[1234] : values[i] >= values[1234]);
+        }
+    }
+
+    @Test
+    void testNthElementMinMax() {
+        assertEquals(sortedValues[0], Select.nthElement(values, 0));
+        assertEquals(sortedValues[values.length - 1], Select.nthElement(values, values.length - 1));
+    }
+
+    @Test
+    void testNthElementFewDistinct() {
+        int[] fewDistinct = new Random(1).ints(10_000, 0, 3).toArray();
+        int[] expected = Arrays.copyOf(fewDistinct, fewDistinct.length);
+        Arrays.sort(expected);
+        assertEquals(expected[5000], Select.nthElement(fewDistinct, 5000));
+    }
+
+    @Test
+    void testInvalidNthElement() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Select.nthElement(values, values.length));
+    }
+
+    @Test
+    void testTopK() {
+        int[] top = Select.topK(values, 100);
+        Arrays.sort(top);
+        assertArrayEquals(Arrays.copyOfRange(sortedValues, values.length - 100, values.length), top);
+    }
+
+    @Test
+    void testTopKOrdered() {
+        assertArrayEquals(Arrays.copyOfRange(sortedValues, values.length - 100, values.length),
+                Select.topKOrdered(values, 100));
+        assertArrayEquals(new int[0], Select.topKOrdered(values, 0));
+    }
+
+    @Test
+    void testSelect() {
+        assertArrayEquals(new int[]{sortedValues[9000], sortedValues[10], sortedValues[5000], sortedValues[10]},
+                Select.select(values, 9000, 10, 5000, 10));
+    }
+
+    @Test
+    void testQuantiles() {
+        assertArrayEquals(new int[]{sortedValues[0], sortedValues[4999], sortedValues[9899], sortedValues[9999]},
+                Select.quantiles(values, 0, 0.5, 0.99, 1));
+    }
+
+    @Test
+    void testLongSelection() {
+        long[] longs = new Random(17).longs(10_000).toArray();
+        long[] sortedLongs = Arrays.copyOf(longs, longs.length);
+        Arrays.sort(sortedLongs);
+
+        assertEquals(sortedLongs[777], Select.nthElement(longs, 777));
+        assertArrayEquals(Arrays.copyOfRange(sortedLongs, 9990, 10_000), Select.topKOrdered(longs, 10));
+        assertArrayEquals(new long[]{sortedLongs[4999], sortedLongs[9899]}, Select.quantiles(longs, 0.5, 0.99));
+    }
+
+    @Test
+    void testEveryRankOfStructuredInputs() {
+        int length = 2000;
+        int[][] inputs = new int[4][length];
+        for (int i = 0; i < length; i++) {
+            inputs[0][i] = i;
+            inputs[1][i] = length - i;
+            inputs[2][i] = i < length / 2 ? i : length - i;
+            inputs[3][i] = i % 7;
+        }
+
+        for (int[] input : inputs) {
+            int[] expected = Arrays.copyOf(input, length);
+            Arrays.sort(expected);
+
+            for (int n = 0; n < length; n += 37) {
+                assertEquals(expected[n], Select.nthElement(Arrays.copyOf(input, length), n));
+
+                long[] longs = Arrays.stream(input).asLongStream().toArray();
+                assertEquals(expected[n], Select.nthElement(longs, n));
+            }
+        }
+    }
+}
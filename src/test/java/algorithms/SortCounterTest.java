@@ -0,0 +1,109 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SortCounterTest {
+    private static int[] sorted(int[] array) {
+        int[] copy = Arrays.copyOf(array, array.length);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Test
+    void testCountingDoesNotChangeTheResult() {
+        Random random = new Random(5);
+
+        for (int length : new int[]{0, 1, 2, 31, 64, 1000, 50_000}) {
+            for (int bound : new int[]{4, Integer.MAX_VALUE}) {
+                int[] array = random.ints(length, 0, bound).toArray();
+                int[] expected = sorted(array);
+
+                assertArrayEquals(expected, Sort.quickSort(Arrays.copyOf(array, length), new SortCounter.Counting()));
+                assertArrayEquals(expected, Sort.mergeSort(Arrays.copyOf(array, length), new SortCounter.Counting()));
+                assertArrayEquals(expected, Sort.radixSort(Arrays.copyOf(array, length), new SortCounter.Counting()));
+                assertArrayEquals(expected, Sort.parallelRadixSort(Arrays.copyOf(array, length),
+                        ForkJoinPool.commonPool(), new SortCounter.Counting()));
+            }
+        }
+    }
+
+    @Test
+    void testInsertionSortCountsInversions() {
+        int[] reversed = {5, 4, 3, 2, 1};
+        SortCounter.Counting counter = new SortCounter.Counting();
+        Sort.insertionSort(reversed, 0, reversed.length, counter);
+
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, reversed);
+        assertEquals(10, counter.getComparisons());
+        // every inversion shifts one value, and every value but the first is written back
+        assertEquals(10 + 4, counter.getWrites());
+        assertEquals(0, counter.getSwaps());
+    }
+
+    @Test
+    void testNetworkCountsEveryPair() {
+        int[] array = {3, 1, 2, 0};
+        SortCounter.Counting counter = new SortCounter.Counting();
+        SortingNetwork.sort(array, 0, array.length, counter);
+
+        assertArrayEquals(new int[]{0, 1, 2, 3}, array);
+        assertEquals(2 * counter.getComparisons(), counter.getWrites());
+        assertTrue(counter.getSwaps() > 0 && counter.getSwaps() <= counter.getComparisons());
+    }
+
+    @Test
+    void testMergeSortOfSortedArray() {
+        int[] array = new int[10_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i;
+        }
+        SortCounter.Counting counter = new SortCounter.Counting();
+        Sort.mergeSort(array, counter);
+
+        // one to see that the run is ascending, one per pair to find where it ends, and again to see it's the only one
+        assertEquals(1 + 2 * (array.length - 1), counter.getComparisons());
+        assertEquals(0, counter.getSwaps());
+        assertEquals(0, counter.getWrites());
+    }
+
+    @Test
+    void testRadixSortSkipsPasses() {
+        SortCounter.Counting counter = new SortCounter.Counting();
+        Sort.radixSort(new int[1000], counter);
+        assertEquals(0, counter.getWrites());
+
+        // small values only need the lowest byte: one scatter into the buffer and one copy back
+        counter = new SortCounter.Counting();
+        Sort.radixSort(new Random(1).ints(1000, 0, 256).toArray(), counter);
+        assertEquals(2 * 1000, counter.getWrites());
+        assertEquals(0, counter.getComparisons());
+    }
+
+    @Test
+    void testQuickSortEqualKeys() {
+        SortCounter.Counting counter = new SortCounter.Counting();
+        Sort.quickSort(new Random(3).ints(100_000, 0, 3).toArray(), counter);
+        assertTrue(counter.getEqualKeysPartitions() > 0);
+        assertEquals(0, counter.getHeapSortFallbacks());
+
+        counter = new SortCounter.Counting();
+        Sort.quickSort(new Random(3).ints(100_000).toArray(), counter);
+        assertEquals(0, counter.getHeapSortFallbacks());
+        assertTrue(counter.getComparisons() > 100_000);
+    }
+
+    @Test
+    void testHeapSortRange() {
+        int[] values = new int[]{99, 1, 10, 33, 41, 5, -1, 9, 17, -99};
+        Sort.heapSort(values, 1, 9, SortCounter.NONE);
+        assertArrayEquals(new int[]{99, -1, 1, 5, 9, 10, 17, 33, 41, -99}, values);
+    }
+}
@@ -3,9 +3,15 @@ package algorithms;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SortTest {
     private int[] values;
@@ -40,11 +46,282 @@ public class SortTest {
         assertArrayEquals(sortedValues, Sort.mergeSort(values));
     }
 
+    @Test
+    void testMergeSortWithBuffer() {
+        int[] buffer = new int[100];
+        assertArrayEquals(sortedValues, Sort.mergeSort(values, buffer));
+        // reuse the same buffer for another sort
+        assertArrayEquals(new int[]{-3, 2, 7}, Sort.mergeSort(new int[]{7, -3, 2}, buffer));
+    }
+
+    @Test
+    void testMergeSortRuns() {
+        int[] large = new int[10_000];
+        for (int i = 0; i < large.length; i++) {
+            // ascending and descending runs of different lengths
+            large[i] = (i / 700) % 2 == 0 ? i % 700 : -(i % 1300);
+        }
+        int[] expected = Arrays.copyOf(large, large.length);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, Sort.mergeSort(large));
+        // already sorted and reversed inputs
+        assertArrayEquals(expected, Sort.mergeSort(Arrays.copyOf(expected, expected.length)));
+        int[] reversed = new int[expected.length];
+        for (int i = 0; i < expected.length; i++) {
+            reversed[i] = expected[expected.length - 1 - i];
+        }
+        assertArrayEquals(expected, Sort.mergeSort(reversed));
+    }
+
+    @Test
+    void testMergeSortRandom() {
+        int[] large = new Random(7).ints(12_345, -100, 100).toArray();
+        int[] expected = Arrays.copyOf(large, large.length);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, Sort.mergeSort(large));
+    }
+
+    @Test
+    void testMergeSortSmallBuffer() {
+        assertThrows(IllegalArgumentException.class, () -> Sort.mergeSort(values, new int[1]));
+    }
+
     @Test
     void testQuickSort() {
         assertArrayEquals(sortedValues, Sort.quickSort(values));
     }
 
+    @Test
+    void testQuickSortThreshold() {
+        assertArrayEquals(sortedValues, Sort.quickSort(values, 1));
+        assertArrayEquals(new int[0], Sort.quickSort(new int[0]));
+    }
+
+    @Test
+    void testQuickSortPatterns() {
+        int length = 50_000;
+        int[] sawtooth = new int[length];
+        int[] fewDistinct = new int[length];
+        int[] organPipe = new int[length];
+        int[] random = new Random(11).ints(length).toArray();
+
+        for (int i = 0; i < length; i++) {
+            sawtooth[i] = i % 1000;
+            fewDistinct[i] = (i * 7) % 3;
+            organPipe[i] = i < length / 2 ? i : length - i;
+        }
+
+        for (int[] input : new int[][]{sawtooth, fewDistinct, organPipe, random}) {
+            int[] expected = Arrays.copyOf(input, length);
+            Arrays.sort(expected);
+            assertArrayEquals(expected, Sort.quickSort(input));
+        }
+    }
+
+    @Test
+    void testQuickSortHeapSortFallback() {
+        int length = 10_000;
+        int[] sawtooth = new int[length];
+        int[] allEqual = new int[length];
+        int[] organPipe = new int[length];
+        int[] random = new Random(13).ints(length, -100, 100).toArray();
+
+        for (int i = 0; i < length; i++) {
+            sawtooth[i] = i % 100;
+            allEqual[i] = 7;
+            organPipe[i] = i < length / 2 ? i : length - i;
+        }
+
+        for (int[] input : new int[][]{sawtooth, allEqual, organPipe, random}) {
+            int[] expected = Arrays.copyOf(input, length);
+            Arrays.sort(expected);
+
+            for (int depth : new int[]{0, 1, 3}) {
+                SortCounter.Counting counter = new SortCounter.Counting();
+                assertArrayEquals(expected, Sort.quickSort(Arrays.copyOf(input, length), 2, depth, counter));
+                // the ranges left at the depth limit are heapsorted, all equal values are done after one partition
+                assertEquals(depth == 0 || input != allEqual, counter.getHeapSortFallbacks() > 0);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> Sort.quickSort(values, 2, -1, SortCounter.NONE));
+    }
+
+    @Test
+    void testParallelMergeSort() {
+        assertArrayEquals(sortedValues, Sort.parallelMergeSort(values, 2, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    void testParallelMergeSortLarge() {
+        int[] large = new Random(42).ints(100_000, -1000, 1000).toArray();
+        int[] expected = Sort.mergeSort(Arrays.copyOf(large, large.length));
+        assertArrayEquals(expected, Sort.parallelMergeSort(large, 64, new ForkJoinPool(4)));
+    }
+
+    @Test
+    void testParallelQuickSort() {
+        assertArrayEquals(sortedValues, Sort.parallelQuickSort(values, 2, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    void testParallelQuickSortLarge() {
+        int[] large = new Random(42).ints(100_000).toArray();
+        int[] expected = Sort.quickSort(Arrays.copyOf(large, large.length));
+        assertArrayEquals(expected, Sort.parallelQuickSort(large, 64, new ForkJoinPool(4)));
+    }
+
+    @Test
+    void testParallelSampleSort() {
+        assertArrayEquals(sortedValues, Sort.parallelSampleSort(values));
+
+        int[] large = new Random(23).ints(200_000).toArray();
+        int[] expected = Arrays.copyOf(large, large.length);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, Sort.parallelSampleSort(large, new ForkJoinPool(4)));
+
+        // lots of duplicates end up in the same bucket
+        int[] fewDistinct = new Random(23).ints(200_000, 0, 4).toArray();
+        int[] expectedFewDistinct = Arrays.copyOf(fewDistinct, fewDistinct.length);
+        Arrays.sort(expectedFewDistinct);
+        assertArrayEquals(expectedFewDistinct, Sort.parallelSampleSort(fewDistinct, new ForkJoinPool(4)));
+    }
+
+    @Test
+    void testParallelSampleSortEqualSplitters() {
+        Random random = new Random(29);
+        int[] allEqual = new int[200_000];
+        Arrays.fill(allEqual, -5);
+        // one value takes most of the sample, so some splitters are equal and others are not
+        int[] skewed = random.ints(200_000, -1000, 1000).map(value -> value % 4 == 0 ? value : 42).toArray();
+
+        for (int[] input : new int[][]{allEqual, skewed}) {
+            int[] expected = Arrays.copyOf(input, input.length);
+            Arrays.sort(expected);
+            assertArrayEquals(expected, Sort.parallelSampleSort(input, new ForkJoinPool(4)));
+        }
+    }
+
+    @Test
+    void testParallelRadixSort() {
+        assertArrayEquals(sortedValues, Sort.parallelRadixSort(values));
+
+        int[] large = new Random(23).ints(200_000).toArray();
+        int[] expected = Arrays.copyOf(large, large.length);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, Sort.parallelRadixSort(large, new ForkJoinPool(4)));
+    }
+
+    @Test
+    void testRadixSort() {
+        assertArrayEquals(sortedValues, Sort.radixSort(values));
+    }
+
+    @Test
+    void testRadixSortLarge() {
+        int[] large = new Random(3).ints(100_000).toArray();
+        int[] expected = Arrays.copyOf(large, large.length);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, Sort.radixSort(large, new int[large.length]));
+        // small values skip the passes over the high bytes
+        int[] small = new Random(3).ints(1000, -50, 50).toArray();
+        int[] expectedSmall = Arrays.copyOf(small, small.length);
+        Arrays.sort(expectedSmall);
+        assertArrayEquals(expectedSmall, Sort.radixSort(small));
+    }
+
+    @Test
+    void testRadixSortLong() {
+        long[] large = new Random(3).longs(100_000).toArray();
+        large[0] = Long.MIN_VALUE;
+        large[1] = Long.MAX_VALUE;
+        long[] expected = Arrays.copyOf(large, large.length);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, Sort.radixSort(large));
+    }
+
+    @Test
+    void testSortByKey() {
+        String[] items = {"ccc", "a", "bb", "dddd", "b"};
+        int[] keys = {3, 1, 2, 4, 1};
+        // stable, so "a" stays in front of "b"
+        assertArrayEquals(new String[]{"a", "b", "bb", "ccc", "dddd"}, Sort.sortByKey(items, keys));
+        assertArrayEquals(new int[]{1, 1, 2, 3, 4}, keys);
+    }
+
+    @Test
+    void testSortByLongKey() {
+        String[] items = {"x", "y", "z"};
+        assertArrayEquals(new String[]{"z", "x", "y"}, Sort.sortByKey(items, new long[]{0, Long.MAX_VALUE, -1}));
+        assertArrayEquals(new String[]{"x", "y", "z"}, Sort.sortByLongKey(items, item -> item.charAt(0) - 'z'));
+        assertArrayEquals(new String[]{"cc", "bbb", "a"},
+                Sort.sortByIntKey(new String[]{"a", "bbb", "cc"}, item -> -item.charAt(0)));
+    }
+
+    @Test
+    void testArgSort() {
+        int[] keys = {3, -1, 3, 0, -1};
+        // stable, equal keys keep their order
+        assertArrayEquals(new int[]{1, 4, 3, 0, 2}, Sort.argSort(keys));
+        // keys are untouched
+        assertArrayEquals(new int[]{3, -1, 3, 0, -1}, keys);
+    }
+
+    @Test
+    void testArgSortLarge() {
+        int[] keys = new Random(9).ints(50_000).toArray();
+        int[] permutation = Sort.argSort(keys);
+        int[] expected = Arrays.copyOf(keys, keys.length);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, Sort.applyPermutation(keys, permutation));
+    }
+
+    @Test
+    void testArgSortLong() {
+        long[] keys = {Long.MAX_VALUE, 5, Long.MIN_VALUE, 5, -7};
+        int[] permutation = Sort.argSort(keys);
+        assertArrayEquals(new int[]{2, 4, 1, 3, 0}, permutation);
+        assertArrayEquals(new long[]{Long.MAX_VALUE, 5, Long.MIN_VALUE, 5, -7}, keys);
+    }
+
+    @Test
+    void testApplyPermutation() {
+        int[] permutation = {2, 0, 3, 1, 4};
+        assertArrayEquals(new int[]{30, 10, 40, 20, 50},
+                Sort.applyPermutation(new int[]{10, 20, 30, 40, 50}, permutation));
+        assertArrayEquals(new long[]{3, 1, 4, 2, 5}, Sort.applyPermutation(new long[]{1, 2, 3, 4, 5}, permutation));
+        assertArrayEquals(new String[]{"c", "a", "d", "b", "e"},
+                Sort.applyPermutation(new String[]{"a", "b", "c", "d", "e"}, permutation));
+        // the permutation is only read
+        assertArrayEquals(new int[]{2, 0, 3, 1, 4}, permutation);
+    }
+
+    @Test
+    void testApplyPermutationConcurrently() {
+        int[] keys = new Random(9).ints(100_000).toArray();
+        int[] permutation = Sort.argSort(keys);
+        int[] expected = Arrays.copyOf(keys, keys.length);
+        Arrays.sort(expected);
+
+        // several columns share the permutation at the same time
+        List<int[]> columns = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            columns.add(Arrays.copyOf(keys, keys.length));
+        }
+        columns.parallelStream().forEach(column -> Sort.applyPermutation(column, permutation));
+
+        for (int[] column : columns) {
+            assertArrayEquals(expected, column);
+        }
+    }
+
+    @Test
+    void testApplyInvalidPermutation() {
+        assertThrows(IllegalArgumentException.class, () -> Sort.applyPermutation(new int[3], new int[]{1, 0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> Sort.applyPermutation(new int[2], new int[]{1, 2}));
+        assertThrows(IllegalArgumentException.class, () -> Sort.applyPermutation(new long[2], new int[]{-1, 0}));
+        assertThrows(IllegalArgumentException.class, () -> Sort.applyPermutation(new int[2], new int[]{0}));
+    }
+
     @Test
     void testHeapSort() {
         assertArrayEquals(sortedValues, Sort.heapSort(values));
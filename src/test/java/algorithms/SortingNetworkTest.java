@@ -0,0 +1,37 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SortingNetworkTest {
+    @Test
+    void testSort() {
+        assertArrayEquals(new int[]{-1, 1, 5, 9, 10, 17, 33, 41},
+                SortingNetwork.sort(new int[]{1, 10, 33, 41, 5, -1, 9, 17}));
+    }
+
+    @Test
+    void testAllLengths() {
+        Random random = new Random(31);
+
+        for (int length = 0; length <= SortingNetwork.MAX_LENGTH; length++) {
+            int[] values = random.ints(length + 2, -10, 10).toArray();
+            int[] expected = Arrays.copyOf(values, values.length);
+            Arrays.sort(expected, 1, length + 1);
+
+            // only the range in between is sorted
+            SortingNetwork.sort(values, 1, length + 1);
+            assertArrayEquals(expected, values);
+        }
+    }
+
+    @Test
+    void testTooLong() {
+        assertThrows(IllegalArgumentException.class, () -> SortingNetwork.sort(new int[SortingNetwork.MAX_LENGTH + 1]));
+    }
+}
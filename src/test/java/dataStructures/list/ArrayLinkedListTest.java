@@ -0,0 +1,99 @@
+package dataStructures.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ArrayLinkedListTest extends ListTest {
+    @Override
+    @SuppressWarnings("unchecked")
+    <E> List<E> newList(E... items) {
+        return new ArrayLinkedList<>(items);
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> ArrayLinkedList.withCapacity(0));
+    }
+
+    @Test
+    void testFreeSlotsAreReused() {
+        ArrayLinkedList<Integer> linked = ArrayLinkedList.withCapacity(4);
+        for (int i = 0; i < 4; i++) {
+            linked.append(i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            linked.popFront();
+            linked.removeAt(1);
+            linked.append(i);
+            linked.insert(1, -i);
+        }
+        assertEquals(4, linked.size());
+        assertEquals(4, linked.capacity());
+    }
+
+    @Test
+    void testRemoveThenAppendDoesNotGrow() {
+        ArrayLinkedList<Integer> linked = ArrayLinkedList.withCapacity(4);
+        for (int i = 0; i < 4; i++) {
+            linked.append(i);
+        }
+
+        linked.remove(2);
+        linked.append(4);
+        linked.removeAt(0);
+        linked.append(5);
+        linked.pop();
+        linked.prepend(6);
+
+        assertEquals(4, linked.capacity());
+        assertEquals(Arrays.asList(6, 1, 3, 4), linked.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testGrow() {
+        ArrayLinkedList<Integer> linked = ArrayLinkedList.withCapacity(1);
+        for (int i = 0; i < 100; i++) {
+            linked.prepend(i);
+        }
+
+        assertEquals(100, linked.size());
+        assertEquals(99, (int) linked.getFirst());
+        assertEquals(0, (int) linked.getLast());
+        assertEquals(128, linked.capacity());
+    }
+
+    @Test
+    void testCompact() {
+        ArrayLinkedList<Integer> linked = new ArrayLinkedList<>(1, 10, 33, 41, 5, -1, 9, 17);
+        linked.reverse();
+        linked.remove(33);
+        linked.popFront();
+        linked.compact();
+
+        assertEquals(6, linked.capacity());
+        assertEquals(Arrays.asList(9, -1, 5, 41, 10, 1), linked.stream().collect(Collectors.toList()));
+
+        linked.append(2);
+        linked.prepend(3);
+        assertEquals(Arrays.asList(3, 9, -1, 5, 41, 10, 1, 2), linked.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testCompactEmpty() {
+        ArrayLinkedList<Integer> linked = new ArrayLinkedList<>(1);
+        linked.pop();
+        linked.compact();
+
+        assertEquals(1, linked.capacity());
+        assertThrows(IndexOutOfBoundsException.class, linked::getLast);
+        linked.append(2);
+        linked.append(3);
+        assertEquals(Arrays.asList(2, 3), linked.stream().collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,59 @@
+package dataStructures.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IndexedSkipListTest extends ListTest {
+    @Override
+    @SuppressWarnings("unchecked")
+    <E> List<E> newList(E... items) {
+        return new IndexedSkipList<>(items);
+    }
+
+    @Test
+    void testLargeList() {
+        List<Integer> skipList = new IndexedSkipList<>();
+        for (int i = 0; i < 100_000; i++) {
+            skipList.append(i);
+        }
+        for (int i = 0; i < 100_000; i += 7) {
+            assertEquals(i, (int) skipList.get(i));
+        }
+        skipList.insert(50_000, -1);
+        assertEquals(-1, (int) skipList.get(50_000));
+        assertEquals(50_000, (int) skipList.get(50_001));
+        assertEquals(99_999, (int) skipList.getLast());
+    }
+
+    @Test
+    void testInteriorUpdatesKeepWidths() {
+        Random random = new Random(22);
+        List<Integer> skipList = new IndexedSkipList<>();
+        java.util.List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            skipList.append(i);
+            expected.add(i);
+        }
+
+        // away from both ends, so that the widths of the links in the middle have to be fixed up
+        for (int operation = 0; operation < 100; operation++) {
+            int index = 1 + random.nextInt(expected.size() - 2);
+            if (operation % 2 == 0) {
+                skipList.insert(index, -operation);
+                expected.add(index, -operation);
+            } else {
+                skipList.removeAt(index);
+                expected.remove(index);
+            }
+
+            assertEquals(expected.size(), skipList.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), skipList.get(i));
+            }
+        }
+    }
+}
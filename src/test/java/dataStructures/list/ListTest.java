@@ -3,14 +3,41 @@ package dataStructures.list;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the {@link List} contract, run against every implementation by a subclass that creates its lists.
+ */
+public abstract class ListTest {
+    List<Integer> list;
+
+    /**
+     * New list of the implementation under test with the given items, in order.
+     */
+    @SuppressWarnings("unchecked")
+    abstract <E> List<E> newList(E... items);
 
-public class ListTest {
-    private List<Integer> list;
+    /**
+     * Checks the invariants of the implementation, after every operation of {@link #testRandomOperations()}.
+     */
+    void checkInvariants(List<Integer> list) {}
 
     @BeforeEach
     void setUp() {
-        list = new SingleLinkedListTail<>(1, 10, 33, 41, 5, -1, 9, 17);
+        list = newList(1, 10, 33, 41, 5, -1, 9, 17);
     }
 
     @Test
@@ -107,4 +134,164 @@ public class ListTest {
         // check that one of the middle values was reversed
         assertEquals(5, (int) list.get(3));
     }
+
+    @Test
+    void testInsertKeepsItems() {
+        list.insert(0, 111);
+        assertEquals(9, list.size());
+        assertEquals(111, (int) list.getFirst());
+        assertEquals(1, (int) list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insert(9, 0));
+    }
+
+    @Test
+    void testEmpty() {
+        List<Integer> empty = newList();
+
+        assertThrows(IndexOutOfBoundsException.class, empty::pop);
+        assertThrows(IndexOutOfBoundsException.class, empty::popFront);
+        assertEquals(-1, empty.findIndex(1));
+        empty.reverse();
+        assertEquals(0, empty.size());
+    }
+
+    @Test
+    void testRandomOperations() {
+        Random random = new Random(17);
+
+        for (int round = 0; round < 4; round++) {
+            List<Integer> actual = newList();
+            java.util.List<Integer> expected = new ArrayList<>();
+
+            for (int i = 0; i < 3000; i++) {
+                int value = random.nextInt(100);
+                switch (random.nextInt(8)) {
+                    case 0:
+                        actual.prepend(value);
+                        expected.add(0, value);
+                        break;
+                    case 1:
+                    case 2:
+                        actual.append(value);
+                        expected.add(value);
+                        break;
+                    case 3:
+                        if (!expected.isEmpty()) {
+                            int index = random.nextInt(expected.size());
+                            actual.insert(index, value);
+                            expected.add(index, value);
+                        }
+                        break;
+                    case 4:
+                        if (!expected.isEmpty()) {
+                            int index = random.nextInt(expected.size());
+                            actual.removeAt(index);
+                            expected.remove(index);
+                        }
+                        break;
+                    case 5:
+                        actual.remove(value);
+                        expected.remove((Integer) value);
+                        break;
+                    case 6:
+                        if (expected.size() >= 2) {
+                            assertEquals(expected.remove(expected.size() - 1), actual.pop());
+                            assertEquals(expected.remove(0), actual.popFront());
+                        }
+                        break;
+                    default:
+                        actual.reverse();
+                        Collections.reverse(expected);
+                }
+                assertEquals(expected.size(), actual.size());
+                assertEquals(expected.indexOf(value), actual.findIndex(value));
+                checkInvariants(actual);
+            }
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), actual.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testIterator() {
+        Iterator<Integer> iterator = list.iterator();
+        int index = 0;
+
+        while (iterator.hasNext()) {
+            assertEquals(list.get(index++), iterator.next());
+        }
+        assertEquals(8, index);
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testIteratorFailFast() {
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.append(2);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void testStream() {
+        assertEquals(Arrays.asList(1, 10, 33, 41, 5, -1, 9, 17), list.stream().collect(Collectors.toList()));
+        assertEquals(115, list.parallelStream().mapToInt(Integer::intValue).sum());
+        assertTrue(list.spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+        assertEquals(8, list.spliterator().estimateSize());
+    }
+
+    @Test
+    void testParallelStreamLargeList() {
+        for (int i = 0; i < 10_000; i++) {
+            list.append(i);
+        }
+
+        assertEquals(list.size(), list.parallelStream().count());
+        assertEquals(115 + 49_995_000L, list.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+    @Test
+    void testPopUntilEmpty() {
+        for (int i = 0; i < 8; i++) {
+            list.pop();
+        }
+        assertFalse(list.iterator().hasNext());
+
+        list.prepend(3);
+        list.append(4);
+        assertEquals(Arrays.asList(3, 4), list.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testPopFrontUntilEmpty() {
+        for (int i = 0; i < 8; i++) {
+            list.popFront();
+        }
+        assertEquals(0, list.stream().count());
+
+        list.append(4);
+        assertEquals(4, (int) list.getFirst());
+        assertEquals(4, (int) list.getLast());
+    }
+
+    @Test
+    void testInsertShiftsItems() {
+        list.insert(0, 111);
+        list.insert(5, 222);
+
+        assertEquals(10, list.size());
+        assertEquals(Arrays.asList(111, 1, 10, 33, 41, 222, 5, -1, 9, 17), list.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testRemoveOnlyFirstMatch() {
+        list.append(33);
+        list.remove(33);
+
+        assertEquals(8, list.size());
+        assertEquals(33, (int) list.getLast());
+        assertEquals(7, list.findIndex(33));
+    }
 }
@@ -0,0 +1,130 @@
+package dataStructures.list;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SingleLinkedListTailTest extends ListTest {
+    private SingleLinkedListTail<Integer> tailList;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    <E> SingleLinkedListTail<E> newList(E... items) {
+        return new SingleLinkedListTail<>(items);
+    }
+
+    @BeforeEach
+    void setUpTailList() {
+        tailList = newList(1, 10, 33, 41, 5, -1, 9, 17);
+    }
+
+    @Test
+    void testSort() {
+        tailList.sort(null);
+
+        assertEquals(Arrays.asList(-1, 1, 5, 9, 10, 17, 33, 41), items(tailList));
+        assertEquals(41, (int) tailList.getLast());
+        // the tail is linked properly
+        tailList.append(0);
+        assertEquals(0, (int) tailList.get(8));
+    }
+
+    @Test
+    void testSortComparator() {
+        tailList.sort(Comparator.reverseOrder());
+
+        assertEquals(Arrays.asList(41, 33, 17, 10, 9, 5, 1, -1), items(tailList));
+        assertEquals(-1, (int) tailList.getLast());
+    }
+
+    @Test
+    void testSortIsStable() {
+        SingleLinkedListTail<String> words = new SingleLinkedListTail<>("bb", "a", "cc", "d", "ee", "f");
+        words.sort(Comparator.comparingInt(String::length));
+
+        assertEquals(Arrays.asList("a", "d", "f", "bb", "cc", "ee"), items(words));
+    }
+
+    @Test
+    void testSortRandom() {
+        Random random = new Random(24);
+
+        for (int size : new int[]{0, 1, 2, 3, 31, 64, 1000}) {
+            SingleLinkedListTail<Integer> randomList = new SingleLinkedListTail<>();
+            java.util.List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                int value = random.nextInt(100);
+                randomList.append(value);
+                expected.add(value);
+            }
+
+            randomList.sort(null);
+            expected.sort(null);
+            assertEquals(expected, items(randomList));
+            assertEquals(size, randomList.size());
+        }
+    }
+
+    @Test
+    void testAppendAll() {
+        SingleLinkedListTail<Integer> other = new SingleLinkedListTail<>(2, 3);
+        tailList.appendAll(other);
+
+        assertEquals(10, tailList.size());
+        assertEquals(3, (int) tailList.getLast());
+        assertEquals(Arrays.asList(1, 10, 33, 41, 5, -1, 9, 17, 2, 3), items(tailList));
+        assertTrue(other.isEmpty());
+        assertEquals(0, other.stream().count());
+    }
+
+    @Test
+    void testAppendAllToEmpty() {
+        SingleLinkedListTail<Integer> empty = new SingleLinkedListTail<>();
+        empty.appendAll(tailList);
+        empty.append(0);
+
+        assertEquals(9, empty.size());
+        assertEquals(1, (int) empty.getFirst());
+        assertEquals(0, (int) empty.getLast());
+    }
+
+    @Test
+    void testSplice() {
+        tailList.splice(0, new SingleLinkedListTail<>(7));
+        tailList.splice(3, new SingleLinkedListTail<>(8, 8));
+        tailList.splice(3, new SingleLinkedListTail<>());
+
+        assertEquals(Arrays.asList(7, 1, 10, 8, 8, 33, 41, 5, -1, 9, 17), items(tailList));
+        assertEquals(11, tailList.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> tailList.splice(12, new SingleLinkedListTail<>(1)));
+        assertThrows(IllegalArgumentException.class, () -> tailList.splice(0, tailList));
+    }
+
+    @Test
+    void testRemoveIf() {
+        assertTrue(tailList.removeIf(item -> item % 2 != 0));
+
+        assertEquals(Arrays.asList(10), items(tailList));
+        assertEquals(10, (int) tailList.getLast());
+        assertFalse(tailList.removeIf(item -> item > 100));
+        assertTrue(tailList.removeIf(item -> true));
+        assertTrue(tailList.isEmpty());
+
+        tailList.append(4);
+        assertEquals(4, (int) tailList.getFirst());
+    }
+
+    private static <T> java.util.List<T> items(SingleLinkedListTail<T> list) {
+        return list.stream().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,9 @@
+package dataStructures.list;
+
+public class SingleLinkedListTest extends ListTest {
+    @Override
+    @SuppressWarnings("unchecked")
+    <E> List<E> newList(E... items) {
+        return new SingleLinkedList<>(items);
+    }
+}
@@ -0,0 +1,121 @@
+package dataStructures.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UnrolledLinkedListTest extends ListTest {
+    /**
+     * Small nodes, so that the contract tests split, borrow and merge them.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    <E> List<E> newList(E... items) {
+        UnrolledLinkedList<E> unrolled = UnrolledLinkedList.withNodeCapacity(4);
+        Arrays.asList(items).forEach(unrolled::append);
+        return unrolled;
+    }
+
+    @Override
+    void checkInvariants(List<Integer> list) {
+        assertHalfFull((UnrolledLinkedList<?>) list);
+    }
+
+    private static void assertHalfFull(UnrolledLinkedList<?> unrolled) {
+        int[] counts = unrolled.nodeCounts();
+        for (int i = 0; i < counts.length - 1; i++) {
+            assertTrue(counts[i] >= unrolled.nodeCapacity() / 2, "node " + i + " of " + Arrays.toString(counts));
+        }
+    }
+
+    @Test
+    void testInvalidNodeCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> UnrolledLinkedList.withNodeCapacity(1));
+    }
+
+    @Test
+    void testPrependKeepsNodesHalfFull() {
+        UnrolledLinkedList<Integer> unrolled = UnrolledLinkedList.withNodeCapacity(4);
+        for (int i = 0; i < 100; i++) {
+            unrolled.prepend(i);
+        }
+
+        assertHalfFull(unrolled);
+        assertEquals(99, (int) unrolled.getFirst());
+        assertEquals(0, (int) unrolled.getLast());
+        assertEquals(50, (int) unrolled.get(49));
+    }
+
+    @Test
+    void testReverseKeepsNodesHalfFull() {
+        UnrolledLinkedList<Integer> unrolled = UnrolledLinkedList.withNodeCapacity(8);
+        for (int i = 0; i < 17; i++) {
+            unrolled.append(i);
+        }
+        // 8, 8, 1: the single item tail becomes the head
+        unrolled.reverse();
+
+        assertHalfFull(unrolled);
+        assertArrayEquals(new int[]{4, 5, 8}, unrolled.nodeCounts());
+        for (int i = 0; i < 17; i++) {
+            assertEquals(16 - i, (int) unrolled.get(i));
+        }
+    }
+
+    @Test
+    void testRemoveBorrowsOrMerges() {
+        UnrolledLinkedList<Integer> unrolled = UnrolledLinkedList.withNodeCapacity(8);
+        for (int i = 0; i < 20; i++) {
+            unrolled.append(i);
+        }
+        // 8, 8, 4: the first node down to 3 borrows one item from the second, which can't merge into it
+        for (int i = 0; i < 5; i++) {
+            unrolled.removeAt(0);
+        }
+        assertArrayEquals(new int[]{4, 7, 4}, unrolled.nodeCounts());
+
+        // the second node down to 3 fits in one node with the last one
+        for (int i = 0; i < 4; i++) {
+            unrolled.removeAt(4);
+        }
+        assertArrayEquals(new int[]{4, 7}, unrolled.nodeCounts());
+        assertEquals(Arrays.asList(5, 6, 7, 8, 13, 14, 15, 16, 17, 18, 19),
+                unrolled.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testConcurrentGets() throws InterruptedException {
+        UnrolledLinkedList<Integer> unrolled = UnrolledLinkedList.withNodeCapacity(4);
+        for (int i = 0; i < 1000; i++) {
+            unrolled.append(i);
+        }
+        boolean[] failed = new boolean[2];
+
+        Thread[] threads = new Thread[2];
+        for (int t = 0; t < threads.length; t++) {
+            int thread = t;
+            threads[t] = new Thread(() -> {
+                Random random = new Random(thread);
+                for (int i = 0; i < 200_000; i++) {
+                    int index = random.nextInt(1000);
+                    if (unrolled.get(index) != index) {
+                        failed[thread] = true;
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertFalse(failed[0] || failed[1]);
+    }
+}
@@ -57,5 +57,4 @@ public class MaxHeapTest {
         heap.changePriority(4, 99);
         assertNotEquals(oldPriority, heap.get(4));
     }
-
 }
@@ -0,0 +1,53 @@
+package dataStructures.tree;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MinHeapTest {
+    private MinHeap heap;
+
+    @BeforeEach
+    public void setUp() {
+        heap = new MinHeap(new int[]{1, 10, 33, 41, 5, -1, 9, 17});
+    }
+
+    @Test
+    void testGetMin() {
+        assertEquals(-1, heap.getMin());
+    }
+
+    @Test
+    void testInsertPriority() {
+        heap.insertPriority(-99);
+        assertEquals(9, heap.getSize());
+        assertEquals(-99, heap.getMin());
+    }
+
+    @Test
+    void testExtractMin() {
+        assertEquals(-1, heap.extractMin());
+        assertEquals(1, heap.extractMin());
+        assertEquals(5, heap.getMin());
+    }
+
+    @Test
+    void testRemove() {
+        heap.remove(1);
+        assertEquals(7, heap.getSize());
+        assertEquals(1, heap.getMin());
+    }
+
+    @Test
+    void testChangePriority() {
+        heap.changePriority(1, 99);
+        assertEquals(1, heap.getMin());
+    }
+
+    @Test
+    void testHeapSort() {
+        assertArrayEquals(new int[]{41, 33, 17, 10, 9, 5, 1, -1}, heap.heapSort());
+    }
+}